@@ -0,0 +1,114 @@
+package es.urjccode.mastercloudapps.adcs.draughts;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class PerfGate {
+
+    private static final Pattern RESULT = Pattern.compile(
+        "\"benchmark\"\\s*:\\s*\"([^\"]+)\"[\\s\\S]*?(?:\"params\"\\s*:\\s*\\{([^}]*)\\}[\\s\\S]*?)?"
+            + "\"primaryMetric\"\\s*:\\s*\\{\\s*\"score\"\\s*:\\s*([-+0-9.eE]+)");
+    private static final Pattern PARAM = Pattern.compile("\"([^\"]+)\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern BENCHMARKS = Pattern.compile("\"benchmarks\"\\s*:\\s*\\{([^}]*)\\}");
+    private static final Pattern ENTRY = Pattern.compile("\"([^\"]+)\"\\s*:\\s*([-+0-9.eE]+)");
+    private static final String ROW_FORMAT = "%-82s %12s %12s %8s %s%n";
+    private static final String VALUE_FORMAT = "%-82s %12.3f %12.3f %+7.1f%% %s%n";
+
+    private final Map<String, Double> results;
+    private final Map<String, Double> baseline;
+    private final double tolerance;
+
+    private PerfGate(Map<String, Double> results, Map<String, Double> baseline, double tolerance) {
+        assert 0 <= tolerance && tolerance < 1;
+        this.results = results;
+        this.baseline = baseline;
+        this.tolerance = tolerance;
+    }
+
+    private boolean check() {
+        boolean passed = true;
+        System.out.printf(PerfGate.ROW_FORMAT, "benchmark", "baseline", "score", "change", "");
+        for (Map.Entry<String, Double> entry : this.baseline.entrySet()) {
+            final Double score = this.results.get(entry.getKey());
+            if (score == null) {
+                System.out.printf(PerfGate.ROW_FORMAT, entry.getKey(), "", "", "", "MISSING");
+                passed = false;
+                continue;
+            }
+            final double change = score / entry.getValue() - 1;
+            final boolean regressed = change < -this.tolerance;
+            System.out.printf(PerfGate.VALUE_FORMAT, entry.getKey(), entry.getValue(), score, change * 100,
+                regressed ? "REGRESSION" : "ok");
+            passed &= !regressed;
+        }
+        System.out.printf("Tolerance: %.0f%%%n", this.tolerance * 100);
+        return passed;
+    }
+
+    private String getCandidate() {
+        String string = "{\n  \"benchmarks\": {\n";
+        int i = 0;
+        for (Map.Entry<String, Double> entry : this.results.entrySet())
+            string += "    \"" + entry.getKey() + "\": " + entry.getValue()
+                + (++i < this.results.size() ? "," : "") + "\n";
+        return string + "  }\n}\n";
+    }
+
+    private static Map<String, Double> readResults(Path path) throws IOException {
+        final Map<String, Double> results = new LinkedHashMap<String, Double>();
+        final Matcher matcher = PerfGate.RESULT.matcher(PerfGate.read(path));
+        while (matcher.find()) {
+            final String name = PerfGate.getName(matcher.group(1), matcher.group(2));
+            if (results.put(name, Double.valueOf(matcher.group(3))) != null)
+                throw new IOException("Duplicate result " + name + " in " + path);
+        }
+        return results;
+    }
+
+    private static String getName(String benchmark, String params) {
+        if (params == null)
+            return benchmark;
+        String name = benchmark;
+        String separator = ":";
+        final Matcher matcher = PerfGate.PARAM.matcher(params);
+        while (matcher.find()) {
+            name += separator + matcher.group(1) + "=" + matcher.group(2);
+            separator = ",";
+        }
+        return name;
+    }
+
+    private static Map<String, Double> readBaseline(Path path) throws IOException {
+        final Map<String, Double> baseline = new LinkedHashMap<String, Double>();
+        final Matcher benchmarks = PerfGate.BENCHMARKS.matcher(PerfGate.read(path));
+        if (!benchmarks.find())
+            throw new IOException("No benchmarks object in " + path);
+        final Matcher matcher = PerfGate.ENTRY.matcher(benchmarks.group(1));
+        while (matcher.find())
+            baseline.put(matcher.group(1), Double.valueOf(matcher.group(2)));
+        return baseline;
+    }
+
+    private static String read(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    public static void main(String[] args) throws IOException {
+        assert args.length == 4;
+        final PerfGate perfGate = new PerfGate(PerfGate.readResults(Paths.get(args[0])),
+            PerfGate.readBaseline(Paths.get(args[1])), Double.parseDouble(args[2]));
+        Files.write(Paths.get(args[3]), perfGate.getCandidate().getBytes(StandardCharsets.UTF_8));
+        if (!perfGate.check()) {
+            System.out.println("Performance gate failed. Candidate baseline written to " + args[3]);
+            System.exit(1);
+        }
+    }
+
+}
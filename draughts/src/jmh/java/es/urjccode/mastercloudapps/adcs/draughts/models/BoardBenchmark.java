@@ -0,0 +1,43 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    private Board board;
+    private Coordinate origin;
+    private Coordinate target;
+
+    @Setup
+    public void setup() {
+        this.board = new Board();
+        this.board.put(Coordinate.getInstance(7, 0), Pawn.getInstance(Color.WHITE));
+        this.board.put(Coordinate.getInstance(5, 2), Pawn.getInstance(Color.BLACK));
+        this.board.put(Coordinate.getInstance(2, 5), Draught.getInstance(Color.BLACK));
+        this.origin = Coordinate.getInstance(7, 0);
+        this.target = Coordinate.getInstance(0, 7);
+    }
+
+    @Benchmark
+    public List<Piece> getBetweenDiagonalPieces() {
+        return this.board.getBetweenDiagonalPieces(this.origin, this.target);
+    }
+
+    @Benchmark
+    public Piece getPiece() {
+        return this.board.getPiece(this.origin);
+    }
+
+}
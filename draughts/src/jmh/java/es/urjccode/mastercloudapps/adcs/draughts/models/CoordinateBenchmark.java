@@ -0,0 +1,39 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CoordinateBenchmark {
+
+    private int row = 3;
+    private int column = 4;
+    private String format = "45";
+
+    @Benchmark
+    public Coordinate getInstance() {
+        return Coordinate.getInstance(this.row, this.column);
+    }
+
+    @Benchmark
+    public void getInstanceAllSquares(Blackhole blackhole) {
+        for (int i = 0; i < Coordinate.getDimension(); i++)
+            for (int j = 0; j < Coordinate.getDimension(); j++)
+                blackhole.consume(Coordinate.getInstance(i, j));
+    }
+
+    @Benchmark
+    public Coordinate getInstanceFromFormat() {
+        return Coordinate.getInstance(this.format);
+    }
+
+}
@@ -0,0 +1,124 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    private Game initialGame;
+    private Game captureGame;
+    private Game multiJumpGame;
+    private Game middleGame;
+    private Game equalMiddleGame;
+    private Game resetGame;
+    private Coordinate[] simpleMove;
+    private Coordinate[] captureMove;
+    private Coordinate[] multiJumpMove;
+    private Coordinate[] rejectedMove;
+
+    @Setup
+    public void setup() {
+        this.initialGame = new GameBuilder().build();
+        this.captureGame = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            " b      ",
+            "        ").build();
+        this.multiJumpGame = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ").build();
+        this.middleGame = GameBenchmark.getMiddleGame();
+        this.equalMiddleGame = GameBenchmark.getMiddleGame();
+        this.resetGame = new GameBuilder().build();
+        this.simpleMove = new Coordinate[] { Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1) };
+        this.captureMove = new Coordinate[] { Coordinate.getInstance(6, 1), Coordinate.getInstance(4, 3) };
+        this.multiJumpMove = new Coordinate[] {
+            Coordinate.getInstance(5, 0), Coordinate.getInstance(3, 2), Coordinate.getInstance(1, 4) };
+        this.rejectedMove = new Coordinate[] { Coordinate.getInstance(5, 0), Coordinate.getInstance(6, 1) };
+    }
+
+    public static Game getMiddleGame() {
+        return new GameBuilder().color(Color.WHITE).rows(
+            " n   n n",
+            "n   n   ",
+            " n n   n",
+            "  b   n ",
+            " b   b  ",
+            "b   B   ",
+            " b b   b",
+            "b     b ").build();
+    }
+
+    @Benchmark
+    public Error moveSimpleAndUnmake() {
+        final Error error = this.initialGame.move(this.simpleMove);
+        this.initialGame.unmake();
+        return error;
+    }
+
+    @Benchmark
+    public Error moveCaptureAndUnmake() {
+        final Error error = this.captureGame.move(this.captureMove);
+        this.captureGame.unmake();
+        return error;
+    }
+
+    @Benchmark
+    public Error moveMultiJumpAndUnmake() {
+        final Error error = this.multiJumpGame.move(this.multiJumpMove);
+        this.multiJumpGame.unmake();
+        return error;
+    }
+
+    @Benchmark
+    public Error moveRejected() {
+        return this.initialGame.move(this.rejectedMove);
+    }
+
+    @Benchmark
+    public boolean isBlockedInitial() {
+        return this.initialGame.isBlocked();
+    }
+
+    @Benchmark
+    public boolean isBlockedMiddle() {
+        return this.middleGame.isBlocked();
+    }
+
+    @Benchmark
+    public Game reset() {
+        this.resetGame.reset();
+        return this.resetGame;
+    }
+
+    @Benchmark
+    public int hashCodeMiddle() {
+        return this.middleGame.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsMiddle() {
+        return this.middleGame.equals(this.equalMiddleGame);
+    }
+
+}
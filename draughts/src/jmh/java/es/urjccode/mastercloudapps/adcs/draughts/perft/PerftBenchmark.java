@@ -0,0 +1,36 @@
+package es.urjccode.mastercloudapps.adcs.draughts.perft;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class PerftBenchmark {
+
+    @Param({ "5" })
+    private int depth;
+
+    private Perft perft;
+
+    @Setup
+    public void setup() {
+        this.perft = new Perft(new Game());
+    }
+
+    @Benchmark
+    public long perft() {
+        return this.perft.count(this.depth);
+    }
+
+}
@@ -0,0 +1,46 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBenchmark;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+    @Param({ "5" })
+    private int depth;
+
+    private Search search;
+    private TranspositionTable table;
+    private Search tableSearch;
+
+    @Setup
+    public void setup() {
+        this.search = new Search(GameBenchmark.getMiddleGame());
+        this.table = new TranspositionTable(TranspositionTable.DEFAULT_MEGABYTES);
+        this.tableSearch = new Search(GameBenchmark.getMiddleGame(), this.table);
+    }
+
+    @Benchmark
+    public SearchResult search() {
+        return this.search.search(this.depth);
+    }
+
+    @Benchmark
+    public SearchResult searchWithTable() {
+        this.table.clear();
+        return this.tableSearch.search(this.depth);
+    }
+
+}
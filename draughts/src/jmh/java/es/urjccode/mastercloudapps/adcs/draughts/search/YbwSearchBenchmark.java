@@ -0,0 +1,39 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBenchmark;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class YbwSearchBenchmark {
+
+    @Param({ "7" })
+    private int depth;
+
+    @Param({ "1", "2", "4", "8" })
+    private int parallelism;
+
+    private YbwSearch ybwSearch;
+
+    @Setup
+    public void setup() {
+        this.ybwSearch = new YbwSearch(GameBenchmark.getMiddleGame(), this.parallelism);
+    }
+
+    @Benchmark
+    public SearchResult search() {
+        return this.ybwSearch.search(this.depth);
+    }
+
+}
@@ -0,0 +1,82 @@
+package es.urjccode.mastercloudapps.adcs.draughts;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.perft.Perft;
+import es.urjccode.mastercloudapps.adcs.draughts.search.Search;
+import es.urjccode.mastercloudapps.adcs.draughts.search.SearchResult;
+import es.urjccode.mastercloudapps.adcs.draughts.search.TranspositionTable;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+class Bench {
+
+    private static final String[][] POSITIONS = {
+        {},
+        { "65.56", "38.47", "56.38", "32.43", "63.54", "36.45", "67.58", "21.32", "54.36", "27.45", "76.67" },
+        { "67.58", "34.43", "78.67", "36.45", "61.52", "23.34", "65.56", "32.41" },
+        { "65.54", "32.41", "54.43", "36.47", "76.65", "27.36", "67.56", "41.52", "63.41" } };
+    private static final int[] DEPTHS = { 7, 6, 7, 6 };
+    private static final int SEARCH_DEPTH = 11;
+    private static final String HASH_PROPERTY = "draughts.hash";
+    private static final String SEPARATOR = "\\.";
+    private static final long NANOS_PER_MILLI = 1000000;
+    private static final long MILLIS_PER_SECOND = 1000;
+
+    private Console console;
+
+    private Bench() {
+        this.console = new Console();
+    }
+
+    private void run() {
+        long nodes = 0;
+        long signature = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < Bench.POSITIONS.length; i++) {
+            final long positionNodes = new Perft(Bench.getGame(Bench.POSITIONS[i])).count(Bench.DEPTHS[i]);
+            this.console.writeln("Position " + (i + 1) + "/" + Bench.POSITIONS.length
+                + " (perft depth " + Bench.DEPTHS[i] + "): " + positionNodes);
+            nodes += positionNodes;
+            signature = 31 * signature + positionNodes;
+        }
+        final long millis = Math.max(1, (System.nanoTime() - start) / Bench.NANOS_PER_MILLI);
+        final TranspositionTable table = new TranspositionTable(
+            Integer.getInteger(Bench.HASH_PROPERTY, TranspositionTable.DEFAULT_MEGABYTES));
+        long searchNodes = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < Bench.POSITIONS.length; i++) {
+            table.clear();
+            final SearchResult result = new Search(Bench.getGame(Bench.POSITIONS[i]), table).search(Bench.SEARCH_DEPTH);
+            this.console.writeln("Position " + (i + 1) + "/" + Bench.POSITIONS.length + " (search): " + result);
+            searchNodes += result.getNodes();
+            signature = 31 * signature + result.getNodes();
+        }
+        final long searchMillis = Math.max(1, (System.nanoTime() - start) / Bench.NANOS_PER_MILLI);
+        this.console.writeln("===========================");
+        this.console.writeln("Total time (ms) : " + (millis + searchMillis));
+        this.console.writeln("Nodes searched  : " + nodes);
+        this.console.writeln("Nodes/second    : " + nodes * Bench.MILLIS_PER_SECOND / millis);
+        this.console.writeln("Search nodes    : " + searchNodes);
+        this.console.writeln("Search nodes/s  : " + searchNodes * Bench.MILLIS_PER_SECOND / searchMillis);
+        this.console.writeln("Signature       : " + Long.toHexString(signature));
+    }
+
+    private static Game getGame(String[] moves) {
+        final Game game = new Game();
+        for (String move : moves) {
+            final String[] formats = move.split(Bench.SEPARATOR);
+            final Coordinate[] coordinates = new Coordinate[formats.length];
+            for (int i = 0; i < formats.length; i++)
+                coordinates[i] = Coordinate.getInstance(formats[i]);
+            final Error error = game.move(coordinates);
+            assert error == null : move;
+        }
+        return game;
+    }
+
+    public static void main(String[] args) {
+        new Bench().run();
+    }
+
+}
@@ -1,10 +1,16 @@
 package es.urjccode.mastercloudapps.adcs.draughts;
 
+import java.io.IOException;
+
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.Logic;
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.InteractorController;
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Metrics;
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.MetricsServer;
 import es.urjccode.mastercloudapps.adcs.draughts.views.View;
 
 class Draughts {
+
+    private static final String METRICS_PORT = "draughts.metrics.port";
     
     private View view;
 
@@ -24,8 +30,17 @@ class Draughts {
 		} while (controller != null); 
     }
 
-    public static void main(String[] args){
+    public static void main(String[] args) throws IOException {
+        Metrics.register();
+        final Integer port = Integer.getInteger(Draughts.METRICS_PORT);
+        MetricsServer metricsServer = null;
+        if (port != null) {
+            metricsServer = new MetricsServer(port);
+            metricsServer.start();
+        }
         new Draughts().play();
+        if (metricsServer != null)
+            metricsServer.stop();
     }
     
 }
\ No newline at end of file
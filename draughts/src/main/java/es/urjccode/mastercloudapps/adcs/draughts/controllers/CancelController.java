@@ -1,5 +1,6 @@
 package es.urjccode.mastercloudapps.adcs.draughts.controllers;
 
+import es.urjccode.mastercloudapps.adcs.draughts.events.GameEndEvent;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
 import es.urjccode.mastercloudapps.adcs.draughts.models.State;
 
@@ -10,6 +11,7 @@ class CancelController extends Controller {
     }
 
     public void cancel() {
+		GameEndEvent.emit(this.game.getTurnColor(), GameEndEvent.CANCELED, null);
 		this.game.cancel();
 		this.state.next();
 	}
@@ -1,5 +1,7 @@
 package es.urjccode.mastercloudapps.adcs.draughts.controllers;
 
+import es.urjccode.mastercloudapps.adcs.draughts.events.GameEndEvent;
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Metrics;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
 import es.urjccode.mastercloudapps.adcs.draughts.models.State;
@@ -17,9 +19,13 @@ class MoveController extends Controller {
         assert coordinates.length >= MoveController.MINIMUM_COORDINATES;
 		for(Coordinate coordinate: coordinates)
 			assert coordinate != null;
+		final long start = System.nanoTime();
 		Error error = this.game.move(coordinates);
-		if (this.game.isBlocked())
+		if (this.game.isBlocked()) {
+			GameEndEvent.emit(this.game.getTurnColor(), GameEndEvent.BLOCKED, error);
 			this.state.next();
+		}
+		Metrics.recordMoveRequest(System.nanoTime() - start);
 		return error;
 	}
 
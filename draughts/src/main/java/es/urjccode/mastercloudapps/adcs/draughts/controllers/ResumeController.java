@@ -1,5 +1,6 @@
 package es.urjccode.mastercloudapps.adcs.draughts.controllers;
 
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Metrics;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
 import es.urjccode.mastercloudapps.adcs.draughts.models.State;
 
@@ -10,10 +11,12 @@ public class ResumeController extends InteractorController {
 	}
 
 	public void next() {
+        Metrics.recordGameFinished();
         this.state.next();
 	}
 
 	public void reset() {
+		Metrics.recordGameFinished();
 		this.state.reset();
 		this.game.reset();
 	}
@@ -1,5 +1,6 @@
 package es.urjccode.mastercloudapps.adcs.draughts.controllers;
 
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Metrics;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
 import es.urjccode.mastercloudapps.adcs.draughts.models.State;
 
@@ -10,6 +11,7 @@ public class StartController extends InteractorController {
 	}
 
 	public void start() {
+        Metrics.recordGameStarted();
         this.state.next();
 	}
     
@@ -0,0 +1,49 @@
+package es.urjccode.mastercloudapps.adcs.draughts.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+
+@Name(BlockedCheckEvent.NAME)
+@Label("Blocked Check")
+@Description("Check whether the player in turn can move any piece")
+@Category(ValidationEvent.CATEGORY)
+@StackTrace(false)
+public class BlockedCheckEvent extends Event {
+
+    public static final String NAME = "es.urjccode.mastercloudapps.adcs.draughts.BlockedCheck";
+
+    private static final EventType TYPE = EventType.getEventType(BlockedCheckEvent.class);
+
+    @Label("Color")
+    String color;
+
+    @Label("Blocked")
+    boolean blocked;
+
+    public static BlockedCheckEvent start() {
+        if (!BlockedCheckEvent.TYPE.isEnabled())
+            return null;
+        final BlockedCheckEvent event = new BlockedCheckEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void finish(BlockedCheckEvent event, Color color, boolean blocked) {
+        if (event == null)
+            return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.color = color.name();
+            event.blocked = blocked;
+            event.commit();
+        }
+    }
+
+}
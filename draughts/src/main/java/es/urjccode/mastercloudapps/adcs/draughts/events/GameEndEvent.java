@@ -0,0 +1,48 @@
+package es.urjccode.mastercloudapps.adcs.draughts.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+
+@Name(GameEndEvent.NAME)
+@Label("Game End")
+@Description("Game finished because the player in turn is blocked or cancels")
+@Category(ValidationEvent.CATEGORY)
+@StackTrace(false)
+public class GameEndEvent extends Event {
+
+    public static final String NAME = "es.urjccode.mastercloudapps.adcs.draughts.GameEnd";
+    public static final String BLOCKED = "BLOCKED";
+    public static final String CANCELED = "CANCELED";
+
+    private static final EventType TYPE = EventType.getEventType(GameEndEvent.class);
+
+    @Label("Loser")
+    String loser;
+
+    @Label("Reason")
+    String reason;
+
+    @Label("Last Error")
+    String error;
+
+    public static void emit(Color loser, String reason, Error error) {
+        if (!GameEndEvent.TYPE.isEnabled())
+            return;
+        final GameEndEvent event = new GameEndEvent();
+        if (event.shouldCommit()) {
+            event.loser = loser.name();
+            event.reason = reason;
+            event.error = error == null ? null : error.name();
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package es.urjccode.mastercloudapps.adcs.draughts.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+
+@Name(MoveEvent.NAME)
+@Label("Move Application")
+@Description("Application of a validated move to the board")
+@Category(ValidationEvent.CATEGORY)
+@StackTrace(false)
+public class MoveEvent extends Event {
+
+    public static final String NAME = "es.urjccode.mastercloudapps.adcs.draughts.MoveApplication";
+
+    private static final EventType TYPE = EventType.getEventType(MoveEvent.class);
+
+    @Label("Move")
+    String move;
+
+    @Label("Captures")
+    int captures;
+
+    @Label("Promotion")
+    boolean promotion;
+
+    public static MoveEvent start() {
+        if (!MoveEvent.TYPE.isEnabled())
+            return null;
+        final MoveEvent event = new MoveEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void finish(MoveEvent event, long move, int captures, boolean promotion) {
+        if (event == null)
+            return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.move = Move.toString(move);
+            event.captures = captures;
+            event.promotion = promotion;
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package es.urjccode.mastercloudapps.adcs.draughts.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+
+@Name(PromotionEvent.NAME)
+@Label("Promotion")
+@Description("Pawn promoted to draught by an applied move")
+@Category(ValidationEvent.CATEGORY)
+@StackTrace(false)
+public class PromotionEvent extends Event {
+
+    public static final String NAME = "es.urjccode.mastercloudapps.adcs.draughts.Promotion";
+
+    private static final EventType TYPE = EventType.getEventType(PromotionEvent.class);
+
+    @Label("Color")
+    String color;
+
+    @Label("Captures")
+    int captures;
+
+    public static void emit(Color color, int captures) {
+        if (!PromotionEvent.TYPE.isEnabled())
+            return;
+        final PromotionEvent event = new PromotionEvent();
+        if (event.shouldCommit()) {
+            event.color = color.name();
+            event.captures = captures;
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package es.urjccode.mastercloudapps.adcs.draughts.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+
+@Name(ValidationEvent.NAME)
+@Label("Move Validation")
+@Description("Validation of a move requested through Game.apply")
+@Category(ValidationEvent.CATEGORY)
+@StackTrace(false)
+public class ValidationEvent extends Event {
+
+    public static final String NAME = "es.urjccode.mastercloudapps.adcs.draughts.MoveValidation";
+    static final String CATEGORY = "Draughts";
+
+    private static final EventType TYPE = EventType.getEventType(ValidationEvent.class);
+
+    @Label("Error")
+    String error;
+
+    @Label("Coordinates")
+    int coordinates;
+
+    @Label("Captures")
+    int captures;
+
+    public static ValidationEvent start() {
+        if (!ValidationEvent.TYPE.isEnabled())
+            return null;
+        final ValidationEvent event = new ValidationEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void finish(ValidationEvent event, Error error, int coordinates, int captures) {
+        if (event == null)
+            return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.error = error == null ? null : error.name();
+            event.coordinates = coordinates;
+            event.captures = captures;
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package es.urjccode.mastercloudapps.adcs.draughts.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+class Counter {
+
+    private final LongAdder adder;
+
+    Counter() {
+        this.adder = new LongAdder();
+    }
+
+    void increment() {
+        this.adder.increment();
+    }
+
+    void add(long value) {
+        assert value >= 0;
+        this.adder.add(value);
+    }
+
+    long get() {
+        return this.adder.sum();
+    }
+
+}
@@ -0,0 +1,134 @@
+package es.urjccode.mastercloudapps.adcs.draughts.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << Histogram.SUB_BUCKET_BITS;
+    private static final int LENGTH = (Long.SIZE - Histogram.SUB_BUCKET_BITS) * Histogram.SUB_BUCKETS;
+    private static final double PERCENT = 100;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong sum;
+    private final AtomicLong min;
+    private final AtomicLong max;
+
+    public Histogram() {
+        this.counts = new AtomicLongArray(Histogram.LENGTH);
+        this.sum = new AtomicLong();
+        this.min = new AtomicLong(Long.MAX_VALUE);
+        this.max = new AtomicLong(0);
+    }
+
+    public void record(long value) {
+        assert value >= 0;
+        this.counts.incrementAndGet(Histogram.getIndex(value));
+        this.sum.addAndGet(value);
+        Histogram.updateMin(this.min, value);
+        Histogram.updateMax(this.max, value);
+    }
+
+    public void add(Histogram histogram) {
+        assert histogram != null && histogram != this;
+        for (int i = 0; i < Histogram.LENGTH; i++) {
+            final long count = histogram.counts.get(i);
+            if (count != 0)
+                this.counts.addAndGet(i, count);
+        }
+        this.sum.addAndGet(histogram.sum.get());
+        Histogram.updateMin(this.min, histogram.min.get());
+        Histogram.updateMax(this.max, histogram.max.get());
+    }
+
+    public void reset() {
+        for (int i = 0; i < Histogram.LENGTH; i++)
+            this.counts.set(i, 0);
+        this.sum.set(0);
+        this.min.set(Long.MAX_VALUE);
+        this.max.set(0);
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < Histogram.LENGTH; i++)
+            count += this.counts.get(i);
+        return count;
+    }
+
+    public long getSum() {
+        return this.sum.get();
+    }
+
+    public long getMin() {
+        final long min = this.min.get();
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    public long getMax() {
+        return this.max.get();
+    }
+
+    public double getMean() {
+        final long count = this.getCount();
+        return count == 0 ? 0 : (double) this.getSum() / count;
+    }
+
+    public long getValueAtPercentile(double percentile) {
+        assert 0 <= percentile && percentile <= Histogram.PERCENT;
+        final long count = this.getCount();
+        if (count == 0)
+            return 0;
+        final long rank = Math.max(1, (long) Math.ceil(percentile / Histogram.PERCENT * count));
+        long accumulated = 0;
+        for (int i = 0; i < Histogram.LENGTH; i++) {
+            accumulated += this.counts.get(i);
+            if (accumulated >= rank)
+                return Math.min(Histogram.getHighestValue(i), this.getMax());
+        }
+        return this.getMax();
+    }
+
+    static int getIndex(long value) {
+        if (value < Histogram.SUB_BUCKETS)
+            return (int) value;
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - Histogram.SUB_BUCKET_BITS;
+        return (shift + 1) * Histogram.SUB_BUCKETS + (int) (value >>> shift) - Histogram.SUB_BUCKETS;
+    }
+
+    static long getLowestValue(int index) {
+        if (index < Histogram.SUB_BUCKETS)
+            return index;
+        final int shift = index / Histogram.SUB_BUCKETS - 1;
+        return (long) (Histogram.SUB_BUCKETS + index % Histogram.SUB_BUCKETS) << shift;
+    }
+
+    static long getHighestValue(int index) {
+        if (index == Histogram.LENGTH - 1)
+            return Long.MAX_VALUE;
+        return Histogram.getLowestValue(index + 1) - 1;
+    }
+
+    private static void updateMin(AtomicLong min, long value) {
+        long current = min.get();
+        while (value < current && !min.compareAndSet(current, value))
+            current = min.get();
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value))
+            current = max.get();
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + this.getCount()
+            + " p50=" + this.getValueAtPercentile(50)
+            + " p99=" + this.getValueAtPercentile(99)
+            + " p99.9=" + this.getValueAtPercentile(99.9)
+            + " max=" + this.getMax();
+    }
+
+}
@@ -0,0 +1,130 @@
+package es.urjccode.mastercloudapps.adcs.draughts.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+
+public final class Metrics {
+
+    static final String OBJECT_NAME = "es.urjccode.mastercloudapps.adcs.draughts:type=Metrics";
+
+    private static final Counter MOVES_ATTEMPTED = new Counter();
+    private static final Counter MOVES_ACCEPTED = new Counter();
+    private static final Counter[] REJECTIONS = Metrics.getCounters(Error.values().length);
+    private static final Counter BLOCKED_CHECKS = new Counter();
+    private static final Counter GAMES_STARTED = new Counter();
+    private static final Counter GAMES_FINISHED = new Counter();
+    private static final Histogram MOVES = new Histogram();
+    private static final Histogram MOVE_REQUESTS = new Histogram();
+    private static final Histogram SEARCHES = new Histogram();
+    private static final Counter SEARCH_NODES = new Counter();
+
+    private Metrics() {
+    }
+
+    private static Counter[] getCounters(int length) {
+        final Counter[] counters = new Counter[length];
+        for (int i = 0; i < length; i++)
+            counters[i] = new Counter();
+        return counters;
+    }
+
+    public static void recordMove(Error error, long nanos) {
+        Metrics.MOVES_ATTEMPTED.increment();
+        if (error == null)
+            Metrics.MOVES_ACCEPTED.increment();
+        else
+            Metrics.REJECTIONS[error.ordinal()].increment();
+        Metrics.MOVES.record(nanos);
+    }
+
+    public static void recordMoveRequest(long nanos) {
+        Metrics.MOVE_REQUESTS.record(nanos);
+    }
+
+    public static void recordSearch(long nodes, long nanos) {
+        Metrics.SEARCH_NODES.add(nodes);
+        Metrics.SEARCHES.record(nanos);
+    }
+
+    public static void recordBlockedCheck() {
+        Metrics.BLOCKED_CHECKS.increment();
+    }
+
+    public static void recordGameStarted() {
+        Metrics.GAMES_STARTED.increment();
+    }
+
+    public static void recordGameFinished() {
+        Metrics.GAMES_FINISHED.increment();
+    }
+
+    public static long getMovesAttempted() {
+        return Metrics.MOVES_ATTEMPTED.get();
+    }
+
+    public static long getMovesAccepted() {
+        return Metrics.MOVES_ACCEPTED.get();
+    }
+
+    public static long getRejections(Error error) {
+        assert error != null;
+        return Metrics.REJECTIONS[error.ordinal()].get();
+    }
+
+    public static long getBlockedChecks() {
+        return Metrics.BLOCKED_CHECKS.get();
+    }
+
+    public static long getGamesStarted() {
+        return Metrics.GAMES_STARTED.get();
+    }
+
+    public static long getGamesFinished() {
+        return Metrics.GAMES_FINISHED.get();
+    }
+
+    public static long getMoveCount() {
+        return Metrics.MOVES.getCount();
+    }
+
+    public static long getMoveNanos() {
+        return Metrics.MOVES.getSum();
+    }
+
+    public static long getSearchCount() {
+        return Metrics.SEARCHES.getCount();
+    }
+
+    public static long getSearchNodes() {
+        return Metrics.SEARCH_NODES.get();
+    }
+
+    static Histogram getMoves() {
+        return Metrics.MOVES;
+    }
+
+    static Histogram getMoveRequests() {
+        return Metrics.MOVE_REQUESTS;
+    }
+
+    static Histogram getSearches() {
+        return Metrics.SEARCHES;
+    }
+
+    public static void register() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(Metrics.OBJECT_NAME);
+            if (!server.isRegistered(name))
+                server.registerMBean(new MetricsBean(), name);
+        } catch (JMException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
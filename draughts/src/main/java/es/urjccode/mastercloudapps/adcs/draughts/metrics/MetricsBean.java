@@ -0,0 +1,89 @@
+package es.urjccode.mastercloudapps.adcs.draughts.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+
+class MetricsBean implements MetricsMXBean {
+
+    private static final String[] PERCENTILE_NAMES = { "p50", "p99", "p99.9" };
+    private static final double[] PERCENTILES = { 50, 99, 99.9 };
+
+    @Override
+    public long getMovesAttempted() {
+        return Metrics.getMovesAttempted();
+    }
+
+    @Override
+    public long getMovesAccepted() {
+        return Metrics.getMovesAccepted();
+    }
+
+    @Override
+    public Map<String, Long> getRejections() {
+        final Map<String, Long> rejections = new LinkedHashMap<String, Long>();
+        for (Error error : Error.values())
+            rejections.put(error.name(), Metrics.getRejections(error));
+        return rejections;
+    }
+
+    @Override
+    public long getBlockedChecks() {
+        return Metrics.getBlockedChecks();
+    }
+
+    @Override
+    public long getGamesStarted() {
+        return Metrics.getGamesStarted();
+    }
+
+    @Override
+    public long getGamesFinished() {
+        return Metrics.getGamesFinished();
+    }
+
+    @Override
+    public long getMoveCount() {
+        return Metrics.getMoveCount();
+    }
+
+    @Override
+    public long getMoveNanos() {
+        return Metrics.getMoveNanos();
+    }
+
+    @Override
+    public Map<String, Long> getMovePercentiles() {
+        return MetricsBean.getPercentiles(Metrics.getMoves());
+    }
+
+    @Override
+    public Map<String, Long> getMoveRequestPercentiles() {
+        return MetricsBean.getPercentiles(Metrics.getMoveRequests());
+    }
+
+    @Override
+    public long getSearchCount() {
+        return Metrics.getSearchCount();
+    }
+
+    @Override
+    public long getSearchNodes() {
+        return Metrics.getSearchNodes();
+    }
+
+    @Override
+    public Map<String, Long> getSearchPercentiles() {
+        return MetricsBean.getPercentiles(Metrics.getSearches());
+    }
+
+    private static Map<String, Long> getPercentiles(Histogram histogram) {
+        final Map<String, Long> percentiles = new LinkedHashMap<String, Long>();
+        for (int i = 0; i < MetricsBean.PERCENTILES.length; i++)
+            percentiles.put(MetricsBean.PERCENTILE_NAMES[i], histogram.getValueAtPercentile(MetricsBean.PERCENTILES[i]));
+        percentiles.put("max", histogram.getMax());
+        return percentiles;
+    }
+
+}
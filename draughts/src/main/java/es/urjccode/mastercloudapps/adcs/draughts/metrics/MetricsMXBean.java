@@ -0,0 +1,20 @@
+package es.urjccode.mastercloudapps.adcs.draughts.metrics;
+
+import java.util.Map;
+
+public interface MetricsMXBean {
+
+    long getMovesAttempted();
+    long getMovesAccepted();
+    Map<String, Long> getRejections();
+    long getBlockedChecks();
+    long getGamesStarted();
+    long getGamesFinished();
+    long getMoveCount();
+    long getMoveNanos();
+    Map<String, Long> getMovePercentiles();
+    Map<String, Long> getMoveRequestPercentiles();
+    long getSearchCount();
+    long getSearchNodes();
+    Map<String, Long> getSearchPercentiles();
+}
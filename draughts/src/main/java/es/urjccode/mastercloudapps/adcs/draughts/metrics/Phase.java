@@ -0,0 +1,9 @@
+package es.urjccode.mastercloudapps.adcs.draughts.metrics;
+
+public enum Phase {
+    PARSE,
+    VALIDATE,
+    APPLY,
+    STATUS,
+    RENDER;
+}
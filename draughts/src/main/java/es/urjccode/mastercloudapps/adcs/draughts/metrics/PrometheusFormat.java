@@ -0,0 +1,56 @@
+package es.urjccode.mastercloudapps.adcs.draughts.metrics;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+
+final class PrometheusFormat {
+
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final String PREFIX = "draughts_";
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double[] QUANTILES = { 0.5, 0.99, 0.999, 1 };
+    private static final double PERCENT = 100;
+
+    private PrometheusFormat() {
+    }
+
+    static String format() {
+        final StringBuilder builder = new StringBuilder();
+        PrometheusFormat.appendCounter(builder, "moves_attempted_total", Metrics.getMovesAttempted());
+        PrometheusFormat.appendCounter(builder, "moves_accepted_total", Metrics.getMovesAccepted());
+        PrometheusFormat.appendType(builder, "move_rejections_total", "counter");
+        for (Error error : Error.values())
+            builder.append(PrometheusFormat.PREFIX).append("move_rejections_total{error=\"")
+                .append(error.name()).append("\"} ").append(Metrics.getRejections(error)).append('\n');
+        PrometheusFormat.appendCounter(builder, "blocked_checks_total", Metrics.getBlockedChecks());
+        PrometheusFormat.appendCounter(builder, "games_started_total", Metrics.getGamesStarted());
+        PrometheusFormat.appendCounter(builder, "games_finished_total", Metrics.getGamesFinished());
+        PrometheusFormat.appendSummary(builder, "move_seconds", Metrics.getMoves());
+        PrometheusFormat.appendSummary(builder, "move_request_seconds", Metrics.getMoveRequests());
+        PrometheusFormat.appendCounter(builder, "search_nodes_total", Metrics.getSearchNodes());
+        PrometheusFormat.appendSummary(builder, "search_seconds", Metrics.getSearches());
+        return builder.toString();
+    }
+
+    private static void appendSummary(StringBuilder builder, String name, Histogram histogram) {
+        PrometheusFormat.appendType(builder, name, "summary");
+        for (double quantile : PrometheusFormat.QUANTILES)
+            builder.append(PrometheusFormat.PREFIX).append(name).append("{quantile=\"").append(quantile).append("\"} ")
+                .append(histogram.getValueAtPercentile(quantile * PrometheusFormat.PERCENT)
+                    / PrometheusFormat.NANOS_PER_SECOND).append('\n');
+        builder.append(PrometheusFormat.PREFIX).append(name).append("_count ")
+            .append(histogram.getCount()).append('\n');
+        builder.append(PrometheusFormat.PREFIX).append(name).append("_sum ")
+            .append(histogram.getSum() / PrometheusFormat.NANOS_PER_SECOND).append('\n');
+    }
+
+    private static void appendCounter(StringBuilder builder, String name, long value) {
+        PrometheusFormat.appendType(builder, name, "counter");
+        builder.append(PrometheusFormat.PREFIX).append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void appendType(StringBuilder builder, String name, String type) {
+        builder.append("# TYPE ").append(PrometheusFormat.PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+}
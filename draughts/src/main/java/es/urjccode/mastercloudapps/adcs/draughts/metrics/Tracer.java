@@ -0,0 +1,97 @@
+package es.urjccode.mastercloudapps.adcs.draughts.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+
+public final class Tracer {
+
+    public static final String PROPERTY = "draughts.trace";
+    static final long DISABLED = Long.MIN_VALUE;
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final double NANOS_PER_MICRO = 1e3;
+    private static final String ROW_FORMAT = "%-10s %8s %12s %12s %12s%n";
+    private static final String VALUE_FORMAT = "%-10s %8d %12.1f %12.1f %12.1f%n";
+
+    private static volatile boolean enabled = Boolean.getBoolean(Tracer.PROPERTY);
+    private static final AtomicLongArray CURRENT = new AtomicLongArray(Tracer.PHASES.length);
+    private static final AtomicLongArray TOTALS = new AtomicLongArray(Tracer.PHASES.length);
+    private static final AtomicLongArray MAXIMA = new AtomicLongArray(Tracer.PHASES.length);
+    private static final AtomicInteger MOVES = new AtomicInteger();
+
+    private Tracer() {
+    }
+
+    public static boolean isEnabled() {
+        return Tracer.enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Tracer.enabled = enabled;
+        Tracer.reset();
+    }
+
+    public static long start() {
+        if (!Tracer.enabled)
+            return Tracer.DISABLED;
+        return System.nanoTime();
+    }
+
+    public static void stop(Phase phase, long start) {
+        if (start != Tracer.DISABLED && Tracer.enabled)
+            Tracer.CURRENT.addAndGet(phase.ordinal(), System.nanoTime() - start);
+    }
+
+    public static String endMove(Error error) {
+        assert Tracer.enabled;
+        String string = "trace move=" + Tracer.MOVES.incrementAndGet() + " error=" + (error == null ? "NONE" : error.name());
+        long total = 0;
+        for (Phase phase : Tracer.PHASES) {
+            final long nanos = Tracer.CURRENT.getAndSet(phase.ordinal(), 0);
+            string += " " + phase.name().toLowerCase() + "_ns=" + nanos;
+            Tracer.TOTALS.addAndGet(phase.ordinal(), nanos);
+            Tracer.updateMax(phase.ordinal(), nanos);
+            total += nanos;
+        }
+        return string + " total_ns=" + total;
+    }
+
+    public static String getSummary() {
+        String string = String.format(Tracer.ROW_FORMAT, "phase", "moves", "total_us", "mean_us", "max_us");
+        final int moves = Tracer.MOVES.get();
+        for (Phase phase : Tracer.PHASES) {
+            final long total = Tracer.TOTALS.get(phase.ordinal());
+            string += String.format(Tracer.VALUE_FORMAT, phase.name().toLowerCase(), moves,
+                total / Tracer.NANOS_PER_MICRO,
+                moves == 0 ? 0 : total / Tracer.NANOS_PER_MICRO / moves,
+                Tracer.MAXIMA.get(phase.ordinal()) / Tracer.NANOS_PER_MICRO);
+        }
+        return string;
+    }
+
+    public static long getTotalNanos(Phase phase) {
+        return Tracer.TOTALS.get(phase.ordinal());
+    }
+
+    public static int getMoves() {
+        return Tracer.MOVES.get();
+    }
+
+    public static void reset() {
+        for (int i = 0; i < Tracer.PHASES.length; i++) {
+            Tracer.CURRENT.set(i, 0);
+            Tracer.TOTALS.set(i, 0);
+            Tracer.MAXIMA.set(i, 0);
+        }
+        Tracer.MOVES.set(0);
+    }
+
+    private static void updateMax(int index, long value) {
+        long current = Tracer.MAXIMA.get(index);
+        while (value > current && !Tracer.MAXIMA.compareAndSet(index, current, value))
+            current = Tracer.MAXIMA.get(index);
+    }
+
+}
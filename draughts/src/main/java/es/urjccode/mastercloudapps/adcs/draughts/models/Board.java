@@ -6,22 +6,54 @@ import java.util.List;
 
 class Board {
 
-    private Piece[][] pieces;
+    private long[] colors;
+    private long draughts;
+    private long key;
 
     Board() {
-        this.pieces = new Piece[Coordinate.getDimension()][Coordinate.getDimension()];
-        for (int i = 0; i < Coordinate.getDimension(); i++)
-            for (int j = 0; j < Coordinate.getDimension(); j++)
-                this.pieces[i][j] = null;
+        this.colors = new long[Color.values().length];
+        this.draughts = 0;
+        this.key = 0;
+    }
+
+    Board(Board board) {
+        this.colors = board.colors.clone();
+        this.draughts = board.draughts;
+        this.key = board.key;
     }
 
     Piece getPiece(Coordinate coordinate) {
         assert coordinate != null;
-        return this.pieces[coordinate.getRow()][coordinate.getColumn()];
+        return this.getPiece(coordinate.getSquare());
+    }
+
+    Piece getPiece(int square) {
+        final Color color = this.getColor(square);
+        if (color == null)
+            return null;
+        if (this.isDraught(square))
+            return Draught.getInstance(color);
+        return Pawn.getInstance(color);
     }
 
     void put(Coordinate coordinate, Piece piece) {
-        this.pieces[coordinate.getRow()][coordinate.getColumn()] = piece;
+        this.put(coordinate.getSquare(), piece);
+    }
+
+    void put(int square, Piece piece) {
+        final Piece previous = this.getPiece(square);
+        if (previous != null)
+            this.key ^= Zobrist.getKey(previous, square);
+        final long mask = Board.getMask(square);
+        for (int i = 0; i < this.colors.length; i++)
+            this.colors[i] &= ~mask;
+        this.draughts &= ~mask;
+        if (piece != null) {
+            this.colors[piece.getColor().ordinal()] |= mask;
+            if (piece.isDraught())
+                this.draughts |= mask;
+            this.key ^= Zobrist.getKey(piece, square);
+        }
     }
 
     Piece remove(Coordinate coordinate) {
@@ -31,41 +63,104 @@ class Board {
         return piece;
     }
 
+    Piece remove(int square) {
+        assert this.getPiece(square) != null;
+        Piece piece = this.getPiece(square);
+        this.put(square, null);
+        return piece;
+    }
+
     void move(Coordinate origin, Coordinate target) {
         assert this.getPiece(origin) != null;
         this.put(target, this.remove(origin));
     }
 
+    void move(int origin, int target) {
+        assert this.getPiece(origin) != null;
+        this.put(target, this.remove(origin));
+    }
+
     List<Piece> getBetweenDiagonalPieces(Coordinate origin, Coordinate target) {
         List<Piece> betweenDiagonalPieces = new ArrayList<Piece>();
-        if (origin.isOnDiagonal(target))
-            for (Coordinate coordinate : origin.getBetweenDiagonalCoordinates(target)) {
-                Piece piece = this.getPiece(coordinate);
-                if (piece != null)
-                    betweenDiagonalPieces.add(piece);
-            }
+        long between = Geometry.getBetween(origin.getSquare(), target.getSquare()) & this.getOccupied();
+        while (between != 0) {
+            betweenDiagonalPieces.add(this.getPiece(Long.numberOfTrailingZeros(between)));
+            between &= between - 1;
+        }
         return betweenDiagonalPieces;
     }
 
     int getAmountBetweenDiagonalPieces(Coordinate origin, Coordinate target) {
-        if (!origin.isOnDiagonal(target))
-            return 0;
-        int betweenDiagonalPieces = 0;
-        for (Coordinate coordinate : origin.getBetweenDiagonalCoordinates(target))
-            if (this.getPiece(coordinate) != null)
-                betweenDiagonalPieces++;
-        return betweenDiagonalPieces;
+        return this.getAmountBetweenDiagonalPieces(origin.getSquare(), target.getSquare());
+    }
+
+    int getAmountBetweenDiagonalPieces(int origin, int target) {
+        return Long.bitCount(Geometry.getBetween(origin, target) & this.getOccupied());
     }
 
     Color getColor(Coordinate coordinate) {
-        final Piece piece = this.getPiece(coordinate);
-        if (piece == null)
-            return null;
-        return piece.getColor();
+        return this.getColor(coordinate.getSquare());
+    }
+
+    Color getColor(int square) {
+        final long mask = Board.getMask(square);
+        if ((this.colors[Color.WHITE.ordinal()] & mask) != 0)
+            return Color.WHITE;
+        if ((this.colors[Color.BLACK.ordinal()] & mask) != 0)
+            return Color.BLACK;
+        return null;
     }
 
     boolean isEmpty(Coordinate coordinate) {
-        return this.getPiece(coordinate) == null;
+        return this.isEmpty(coordinate.getSquare());
+    }
+
+    boolean isEmpty(int square) {
+        return (this.getOccupied() & Board.getMask(square)) == 0;
+    }
+
+    boolean isDraught(int square) {
+        return (this.draughts & Board.getMask(square)) != 0;
+    }
+
+    long getPieces(Color color) {
+        return this.colors[color.ordinal()];
+    }
+
+    long getDraughts() {
+        return this.draughts;
+    }
+
+    long getMovables(Color color) {
+        final long colleagues = this.getPieces(color);
+        final long empties = ~this.getOccupied();
+        final long opposites = this.getPieces(color.getOpposite());
+        final long pawns = colleagues & ~this.draughts;
+        final long draughts = colleagues & this.draughts;
+        long movables = 0;
+        for (Direction direction : Geometry.getDirections()) {
+            final long steps = Geometry.getBackward(empties, direction);
+            movables |= draughts & (steps | Geometry.getBackward(steps & ~colleagues, direction));
+            if (direction.isAdvanced(color))
+                movables |= pawns & (steps | Geometry.getBackward(steps & opposites, direction));
+        }
+        return movables;
+    }
+
+    long getKey() {
+        return this.key;
+    }
+
+    long getOccupied() {
+        long occupied = 0;
+        for (long color : this.colors)
+            occupied |= color;
+        return occupied;
+    }
+
+    private static long getMask(int square) {
+        assert 0 <= square && square < Long.SIZE;
+        return 1L << square;
     }
 
     @Override
@@ -88,7 +183,7 @@ class Board {
     private String toStringHorizontalPiecesWithNumbers(int row) {
         String string = " " + row;
         for (int j = 0; j < Coordinate.getDimension(); j++) {
-            Piece piece = this.getPiece(new Coordinate(row, j));
+            Piece piece = this.getPiece(Coordinate.getInstance(row, j));
             if (piece == null)
                 string += " ";
             else {
@@ -102,7 +197,7 @@ class Board {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + Arrays.deepHashCode(pieces);
+        result = prime * result + (int) (key ^ (key >>> 32));
         return result;
     }
 
@@ -115,9 +210,13 @@ class Board {
         if (getClass() != obj.getClass())
             return false;
         Board other = (Board) obj;
-        if (!Arrays.deepEquals(pieces, other.pieces))
+        if (key != other.key)
+            return false;
+        if (!Arrays.equals(colors, other.colors))
+            return false;
+        if (draughts != other.draughts)
             return false;
         return true;
     }
 
-}
\ No newline at end of file
+}
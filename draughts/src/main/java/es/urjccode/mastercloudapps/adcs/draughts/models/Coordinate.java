@@ -5,27 +5,41 @@ import java.util.List;
 
 public class Coordinate {
 
-    private int row;
-    private int column;
+    private final int row;
+    private final int column;
     private static final int LOWER_LIMIT = 0;
     private static final int UPPER_LIMIT = 7;
     private static final int DIMENSION = UPPER_LIMIT + 1;
+    private static final Coordinate[] INSTANCES = new Coordinate[DIMENSION * DIMENSION];
+
+    static {
+        for (int i = 0; i < Coordinate.INSTANCES.length; i++)
+            Coordinate.INSTANCES[i] = new Coordinate(i / Coordinate.DIMENSION, i % Coordinate.DIMENSION);
+    }
 
     public Coordinate(int row, int column) {
         this.row = row;
         this.column = column;
     }
 
+    public static Coordinate getInstance(int row, int column) {
+        if (row < Coordinate.LOWER_LIMIT || Coordinate.UPPER_LIMIT < row 
+                || column < Coordinate.LOWER_LIMIT || Coordinate.UPPER_LIMIT < column)
+            return null;
+        return Coordinate.INSTANCES[row * Coordinate.DIMENSION + column];
+    }
+
+    static Coordinate getInstance(int square) {
+        return Coordinate.INSTANCES[square];
+    }
+
     public static Coordinate getInstance(String format) {
         assert format != null;
         try {
             int value = Integer.parseInt(format);
             int row = value / 10 - 1;
             int column = value % 10 - 1;
-            Coordinate coordinate = new Coordinate(row, column);
-            if (!coordinate.isWithIn())
-                return null;
-            return coordinate;
+            return Coordinate.getInstance(row, column);
         } catch (Exception ex) {
             return null;
         }
@@ -40,12 +54,10 @@ public class Coordinate {
         return new Coordinate(this.row - coordinate.row, this.column - coordinate.column);
     }
 
-    private Coordinate plus(Coordinate coordinate) {
-        return new Coordinate(this.row + coordinate.row, this.column + coordinate.column);
-    }
-
     Direction getDirection(Coordinate coordinate) {
         assert coordinate != null;
+        if (this.isWithIn() && coordinate.isWithIn())
+            return Geometry.getDirection(this.getSquare(), coordinate.getSquare());
         Coordinate substract = coordinate.substract(this);
         for (Direction direction : Direction.values()) 
             if (direction.isOnDirection(substract)) 
@@ -59,34 +71,31 @@ public class Coordinate {
 
     int getDiagonalDistance(Coordinate coordinate) {
         assert this.isOnDiagonal(coordinate);
+        if (this.isWithIn() && coordinate.isWithIn())
+            return Geometry.getDiagonalDistance(this.getSquare(), coordinate.getSquare());
         return Math.abs(this.substract(coordinate).getRow());
     }
 
     Coordinate getBetweenDiagonalCoordinate(Coordinate coordinate) {
         assert this.getDiagonalDistance(coordinate) == 2;
         final Direction direction = this.getDirection(coordinate);
-        return this.plus(direction.getDistanceCoordinate(1));
+        return Coordinate.getInstance(Geometry.getShifted(this.getSquare(), direction, 1));
     }
 
     List<Coordinate> getBetweenDiagonalCoordinates(Coordinate coordinate){
         assert this.isOnDiagonal(coordinate);
         List<Coordinate> coordinates = new ArrayList<Coordinate>();
         final Direction direction = this.getDirection(coordinate);
-        Coordinate cursor = this.plus(direction.getDistanceCoordinate(1));
-        while (!cursor.equals(coordinate)){
-            coordinates.add(cursor);
-            cursor = cursor.plus(direction.getDistanceCoordinate(1));
-        }
+        final int distance = this.getDiagonalDistance(coordinate);
+        for (int i = 1; i < distance; i++)
+            coordinates.add(Coordinate.getInstance(Geometry.getShifted(this.getSquare(), direction, i)));
         return coordinates;
     }
 
     List<Coordinate> getDiagonalCoordinates(int level) {
         List<Coordinate> diagonalCoordinates = new ArrayList<Coordinate>();
-        for (Direction direction : Direction.values()) {
-            Coordinate diagonalCoordinate = this.plus(direction.getDistanceCoordinate(level));
-            if (diagonalCoordinate != null && diagonalCoordinate.isWithIn())
-                diagonalCoordinates.add(diagonalCoordinate);
-        }
+        for (int square : Geometry.getDiagonals(this.getSquare(), level))
+            diagonalCoordinates.add(Coordinate.getInstance(square));
         return diagonalCoordinates;
     }
 
@@ -102,6 +111,11 @@ public class Coordinate {
         return this.row == Coordinate.LOWER_LIMIT;
     }
 
+    int getSquare() {
+        assert this.isWithIn();
+        return this.row * Coordinate.DIMENSION + this.column;
+    }
+
     int getRow() {
         return this.row;
     }
@@ -26,6 +26,12 @@ enum Direction {
         return true;
     }
     
+    boolean isAdvanced(Color color) {
+        if (color == Color.WHITE)
+            return this.horizontalShift < 0;
+        return this.horizontalShift > 0;
+    }
+
     Coordinate getDistanceCoordinate(int distance) {
         int row = this.horizontalShift * distance;
         int column = this.verticalShift * distance;
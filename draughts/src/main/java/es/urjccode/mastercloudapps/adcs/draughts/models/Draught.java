@@ -2,20 +2,33 @@ package es.urjccode.mastercloudapps.adcs.draughts.models;
 
 public class Draught extends Piece {
 
+  private static final String[] CODES = { "B", "N" };
+  private static final Draught[] INSTANCES = { new Draught(Color.WHITE), new Draught(Color.BLACK) };
+
   Draught(Color color) {
     super(color);
   }
 
+  static Draught getInstance(Color color) {
+    assert color != null;
+    return Draught.INSTANCES[color.ordinal()];
+  }
+
   @Override
-  Error isCorrectDiagonalMovement(int amountBetweenDiagonalPieces, int pair, Coordinate... coordinates) {
+  Error isCorrectDiagonalMovement(int amountBetweenDiagonalPieces, int origin, int target) {
     if (amountBetweenDiagonalPieces > 1)
       return Error.TOO_MUCH_EATINGS;
     return null;
   }
 
+  @Override
+  boolean isDraught() {
+    return true;
+  }
+
   @Override
   public String getCode(){
-		return super.getCode().toUpperCase();
+    return Draught.CODES[this.color.ordinal()];
   }
 
 }
\ No newline at end of file
@@ -1,16 +1,32 @@
 package es.urjccode.mastercloudapps.adcs.draughts.models;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+
+import es.urjccode.mastercloudapps.adcs.draughts.events.BlockedCheckEvent;
+import es.urjccode.mastercloudapps.adcs.draughts.events.MoveEvent;
+import es.urjccode.mastercloudapps.adcs.draughts.events.PromotionEvent;
+import es.urjccode.mastercloudapps.adcs.draughts.events.ValidationEvent;
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Metrics;
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Phase;
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Tracer;
 
 public class Game {
 
 	private Board board;
 	private Turn turn;
+	private UndoStack undos;
+	private final int undoCapacity;
+	private GameStatus status;
 
 	Game(Board board) {
-		this.turn = new Turn();
+		this(board, new Turn(), UndoStack.DEFAULT_CAPACITY);
+	}
+
+	private Game(Board board, Turn turn, int undoCapacity) {
+		this.turn = turn;
 		this.board = board;
+		this.undoCapacity = undoCapacity;
+		this.clearUndos();
 	}
 
 	public Game() {
@@ -21,123 +37,234 @@ public class Game {
 	public void reset() {
 		for (int i = 0; i < Coordinate.getDimension(); i++)
 			for (int j = 0; j < Coordinate.getDimension(); j++) {
-				Coordinate coordinate = new Coordinate(i, j);
+				Coordinate coordinate = Coordinate.getInstance(i, j);
 				Color color = Color.getInitialColor(coordinate);
 				Piece piece = null;
 				if (color != null)
-					piece = new Pawn(color);
+					piece = Pawn.getInstance(color);
 				this.board.put(coordinate, piece);
 			}
 		if (this.turn.getColor() != Color.WHITE)
 			this.turn.change();
+		this.clearUndos();
 	}
 
 	public Error move(Coordinate... coordinates) {
-		Error error = null;
-		List<Coordinate> removedCoordinates = new ArrayList<Coordinate>();
-		int pair = 0;
-		do {
-			error = this.isCorrectPairMove(pair, coordinates);
-			if (error == null) {
-				this.pairMove(removedCoordinates, pair, coordinates);
-				pair++;
-			}
-		} while (pair < coordinates.length - 1 && error == null);
-		error = this.isCorrectGlobalMove(error, removedCoordinates, coordinates);
-		if (error == null)
-			this.turn.change();
-		else
-			this.unMovesUntilPair(removedCoordinates, pair, coordinates);
+		final long start = System.nanoTime();
+		final Error error = coordinates.length > Move.MAX_LENGTH ? this.getTooLongError(coordinates)
+			: this.apply(Move.getInstance(coordinates));
+		Metrics.recordMove(error, System.nanoTime() - start);
 		return error;
 	}
 
-	private Error isCorrectPairMove(int pair, Coordinate... coordinates) {
-		assert coordinates[pair] != null;
-		assert coordinates[pair + 1] != null;
-		if (board.isEmpty(coordinates[pair]))
-			return Error.EMPTY_ORIGIN;
-		if (this.turn.getOppositeColor() == this.board.getColor(coordinates[pair]))
-			return Error.OPPOSITE_PIECE;
-		if (!this.board.isEmpty(coordinates[pair + 1]))
-			return Error.NOT_EMPTY_TARGET;
-		List<Piece> betweenDiagonalPieces = 
-			this.board.getBetweenDiagonalPieces(coordinates[pair], coordinates[pair + 1]);
-		return this.board.getPiece(coordinates[pair]).isCorrectMovement(betweenDiagonalPieces, pair, coordinates);
-	}
-
-	private void pairMove(List<Coordinate> removedCoordinates, int pair, Coordinate... coordinates) {
-		Coordinate forRemoving = this.getBetweenDiagonalPiece(pair, coordinates);
-		if (forRemoving != null) {
-			removedCoordinates.add(0, forRemoving);
-			this.board.remove(forRemoving);
+	private Error getTooLongError(Coordinate... coordinates) {
+		final Error error = this.validate(Move.getInstance(Arrays.copyOf(coordinates, Move.MAX_LENGTH)));
+		if (error != null)
+			return error;
+		return Error.TOO_MUCH_JUMPS;
+	}
+
+	public Error apply(long move) {
+		final Undo undo = this.getUndos().push();
+		final ValidationEvent validationEvent = ValidationEvent.start();
+		long start = Tracer.start();
+		final Error error = this.validate(move, undo);
+		Tracer.stop(Phase.VALIDATE, start);
+		if (error != null) {
+			ValidationEvent.finish(validationEvent, error, Move.getLength(move), 0);
+			this.undos.pop();
+			return error;
 		}
-		this.board.move(coordinates[pair], coordinates[pair + 1]);
-		if (this.board.getPiece(coordinates[pair + 1]).isLimit(coordinates[pair + 1])) {
-			Color color = this.board.getColor(coordinates[pair + 1]);
-			this.board.remove(coordinates[pair + 1]);
-			this.board.put(coordinates[pair + 1], new Draught(color));
+		final int captures = Long.bitCount(undo.getRemoved());
+		ValidationEvent.finish(validationEvent, null, Move.getLength(move), captures);
+		final MoveEvent moveEvent = MoveEvent.start();
+		start = Tracer.start();
+		this.make(undo);
+		Tracer.stop(Phase.APPLY, start);
+		MoveEvent.finish(moveEvent, move, captures, undo.isPromoted());
+		if (undo.isPromoted())
+			PromotionEvent.emit(undo.getPiece().getColor(), captures);
+		return null;
+	}
+
+	public void make(long move) {
+		final Undo undo = this.getUndos().push();
+		final Error error = this.validate(move, undo);
+		if (error != null) {
+			this.undos.pop();
+			throw new IllegalArgumentException(Move.toString(move) + ": " + error);
 		}
+		this.make(undo);
 	}
 
-	private Coordinate getBetweenDiagonalPiece(int pair, Coordinate... coordinates) {
-		assert coordinates[pair].isOnDiagonal(coordinates[pair + 1]);
-		List<Coordinate> betweenCoordinates = coordinates[pair].getBetweenDiagonalCoordinates(coordinates[pair + 1]);
-		if (betweenCoordinates.isEmpty())
-			return null;
-		for (Coordinate coordinate : betweenCoordinates) {
-			if (this.getPiece(coordinate) != null)
-				return coordinate;
+	private void make(Undo undo) {
+		final Piece piece = undo.getPiece();
+		this.board.put(Move.getOrigin(undo.getMove()), null);
+		long removed = undo.getRemoved();
+		while (removed != 0) {
+			this.board.remove(Long.numberOfTrailingZeros(removed));
+			removed &= removed - 1;
 		}
-		return null;
+		if (undo.isPromoted())
+			this.board.put(Move.getTarget(undo.getMove()), Draught.getInstance(piece.getColor()));
+		else
+			this.board.put(Move.getTarget(undo.getMove()), piece);
+		this.turn.change();
+	}
+
+	private UndoStack getUndos() {
+		if (this.undos == null)
+			this.undos = new UndoStack(this.undoCapacity);
+		return this.undos;
+	}
+
+	private void clearUndos() {
+		if (this.undos != null)
+			this.undos.clear();
+	}
+
+	public boolean canUnmake() {
+		return this.undos != null && !this.undos.isEmpty();
+	}
+
+	public void unmake() {
+		assert this.canUnmake();
+		this.turn.change();
+		this.unmake(this.undos.pop());
 	}
 
-	private Error isCorrectGlobalMove(Error error, List<Coordinate> removedCoordinates, Coordinate... coordinates){
+	public Error validate(long move) {
+		return this.validate(move, null);
+	}
+
+	public MoveValidation getValidation(long move) {
+		final Undo undo = new Undo();
+		final Error error = this.validate(move, undo);
 		if (error != null)
-			return error;
-		if (coordinates.length > 2 && coordinates.length > removedCoordinates.size() + 1)
+			return new MoveValidation(error);
+		return new MoveValidation(undo.getRemoved(), undo.isPromoted());
+	}
+
+	private Error validate(long move, Undo undo) {
+		assert Move.getLength(move) >= 2;
+		final Piece origin = this.board.getPiece(Move.getOrigin(move));
+		if (origin == null)
+			return Error.EMPTY_ORIGIN;
+		if (this.turn.getOppositeColor() == origin.getColor())
+			return Error.OPPOSITE_PIECE;
+		Piece piece = origin;
+		int square = Move.getOrigin(move);
+		long occupied = this.board.getOccupied();
+		long colleagues = this.board.getPieces(piece.getColor());
+		long removed = 0;
+		for (int pair = 1; pair < Move.getLength(move); pair++) {
+			final int target = Move.getSquare(move, pair);
+			if ((occupied & 1L << target) != 0)
+				return Error.NOT_EMPTY_TARGET;
+			final Error error = piece.isCorrectMovement(square, target, occupied, colleagues);
+			if (error != null)
+				return error;
+			final long forRemoving = Long.lowestOneBit(occupied & Geometry.getBetween(square, target));
+			removed |= forRemoving;
+			occupied = (occupied & ~forRemoving & ~(1L << square)) | 1L << target;
+			colleagues = (colleagues & ~(1L << square)) | 1L << target;
+			if (piece.isLimit(target))
+				piece = Draught.getInstance(piece.getColor());
+			square = target;
+		}
+		final Error error = this.isCorrectGlobalMove(removed, move);
+		if (error == null && undo != null)
+			undo.set(move, origin, piece != origin, removed, removed & this.board.getDraughts());
+		return error;
+	}
+
+	private Error isCorrectGlobalMove(long removed, long move){
+		if (Move.getLength(move) > 2 && Move.getLength(move) > Long.bitCount(removed) + 1)
 			return Error.TOO_MUCH_JUMPS;
 		return null;
 	}
 
-	private void unMovesUntilPair(List<Coordinate> removedCoordinates, int pair, Coordinate... coordinates) {
-		for (int j = pair; j > 0; j--)
-			this.board.move(coordinates[j], coordinates[j - 1]);
-		for (Coordinate removedPiece : removedCoordinates)
-			this.board.put(removedPiece, new Pawn(this.getOppositeTurnColor()));
+	private void unmake(Undo undo) {
+		final Piece piece = undo.getPiece();
+		this.board.put(Move.getTarget(undo.getMove()), null);
+		this.board.put(Move.getOrigin(undo.getMove()), piece);
+		long removed = undo.getRemoved();
+		while (removed != 0) {
+			final int square = Long.numberOfTrailingZeros(removed);
+			final Color color = piece.getColor().getOpposite();
+			if (undo.isRemovedDraught(square))
+				this.board.put(square, Draught.getInstance(color));
+			else
+				this.board.put(square, Pawn.getInstance(color));
+			removed &= removed - 1;
+		}
 	}
 
-	public boolean isBlocked() {
-		for (Coordinate coordinate : this.getCoordinatesWithActualColor())
-			if (!this.isBlocked(coordinate))
-				return false;
-		return true;
+	public void getMoves(MoveList moves) {
+		assert moves != null;
+		moves.clear();
+		final long colleagues = this.board.getPieces(this.getTurnColor());
+		long pieces = colleagues;
+		while (pieces != 0) {
+			final int origin = Long.numberOfTrailingZeros(pieces);
+			this.addMoves(moves, Move.add(Move.NONE, origin), this.board.getPiece(origin),
+				this.board.getOccupied(), colleagues);
+			pieces &= pieces - 1;
+		}
 	}
 
-	private List<Coordinate> getCoordinatesWithActualColor() {
-		List<Coordinate> coordinates = new ArrayList<Coordinate>();
-		for (int i = 0; i < this.getDimension(); i++) {
-			for (int j = 0; j < this.getDimension(); j++) {
-				Coordinate coordinate = new Coordinate(i, j);
-				Piece piece = this.getPiece(coordinate);
-				if (piece != null && piece.getColor() == this.getTurnColor())
-					coordinates.add(coordinate);
+	private void addMoves(MoveList moves, long move, Piece piece, long occupied, long colleagues) {
+		final int origin = Move.getTarget(move);
+		final boolean isFirstPair = Move.getLength(move) == 1;
+		for (int distance = 1; distance < this.getDimension(); distance++)
+			for (int target : Geometry.getDiagonals(origin, distance)) {
+				if ((occupied & 1L << target) != 0
+						|| piece.isCorrectMovement(origin, target, occupied, colleagues) != null)
+					continue;
+				final long removed = occupied & Geometry.getBetween(origin, target);
+				if (!isFirstPair && removed == 0)
+					continue;
+				final long pairMove = Move.add(move, target);
+				moves.add(pairMove);
+				if (removed != 0 && Move.getLength(pairMove) < Move.MAX_LENGTH) {
+					Piece movedPiece = piece;
+					if (piece.isLimit(target))
+						movedPiece = Draught.getInstance(piece.getColor());
+					this.addMoves(moves, pairMove, movedPiece,
+						(occupied & ~removed & ~(1L << origin)) | 1L << target,
+						(colleagues & ~(1L << origin)) | 1L << target);
+				}
 			}
-		}
-		return coordinates;
 	}
 
-	private boolean isBlocked(Coordinate coordinate) {
-		for (int i = 1; i <= 2; i++)
-			for (Coordinate target : coordinate.getDiagonalCoordinates(i))
-				if (this.isCorrectPairMove(0, coordinate, target) == null)
-					return false;
-		return true;
+	public Game fork() {
+		return new Game(new Board(this.board), new Turn(this.turn), UndoStack.FORK_CAPACITY);
+	}
+
+	public boolean isBlocked() {
+		Metrics.recordBlockedCheck();
+		final BlockedCheckEvent blockedCheckEvent = BlockedCheckEvent.start();
+		final long start = Tracer.start();
+		final boolean blocked = this.board.getMovables(this.getTurnColor()) == 0;
+		Tracer.stop(Phase.STATUS, start);
+		BlockedCheckEvent.finish(blockedCheckEvent, this.getTurnColor(), blocked);
+		return blocked;
+	}
+
+	public GameStatus getStatus() {
+		if (this.status == null || this.status.getKey() != this.getKey())
+			this.status = new GameStatus(this.board, this.turn);
+		return this.status;
 	}
 
 	public void cancel() {
-		for (Coordinate coordinate : this.getCoordinatesWithActualColor())
-			this.board.remove(coordinate);
+		long pieces = this.board.getPieces(this.getTurnColor());
+		while (pieces != 0) {
+			this.board.remove(Long.numberOfTrailingZeros(pieces));
+			pieces &= pieces - 1;
+		}
 		this.turn.change();
+		this.clearUndos();
 	}
 
 	public Color getColor(Coordinate coordinate) {
@@ -149,19 +276,33 @@ public class Game {
 		return this.turn.getColor();
 	}
 
-	private Color getOppositeTurnColor() {
-		return this.turn.getOppositeColor();
-	}
-
 	public Piece getPiece(Coordinate coordinate) {
 		assert coordinate != null;
 		return this.board.getPiece(coordinate);
 	}
 
+	public long getPieces(Color color) {
+		assert color != null;
+		return this.board.getPieces(color);
+	}
+
+	public long getDraughts() {
+		return this.board.getDraughts();
+	}
+
+	public long getMovables(Color color) {
+		assert color != null;
+		return this.board.getMovables(color);
+	}
+
 	public int getDimension() {
 		return Coordinate.getDimension();
 	}
 
+	public long getKey() {
+		return this.board.getKey() ^ this.turn.getKey();
+	}
+
 	@Override
 	public String toString() {
 		return this.board + "\n" + this.turn;
@@ -171,8 +312,8 @@ public class Game {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + ((board == null) ? 0 : board.hashCode());
-		result = prime * result + ((turn == null) ? 0 : turn.hashCode());
+		final long key = this.getKey();
+		result = prime * result + (int) (key ^ (key >>> 32));
 		return result;
 	}
 
@@ -185,6 +326,8 @@ public class Game {
 		if (getClass() != obj.getClass())
 			return false;
 		Game other = (Game) obj;
+		if (this.getKey() != other.getKey())
+			return false;
 		if (board == null) {
 			if (other.board != null)
 				return false;
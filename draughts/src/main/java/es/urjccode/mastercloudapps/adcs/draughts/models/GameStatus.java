@@ -0,0 +1,67 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+public class GameStatus {
+
+    private final long key;
+    private final Color turnColor;
+    private final int[] pieces;
+    private final int[] draughts;
+    private final int[] movables;
+
+    GameStatus(Board board, Turn turn) {
+        this.key = board.getKey() ^ turn.getKey();
+        this.turnColor = turn.getColor();
+        this.pieces = new int[Color.values().length];
+        this.draughts = new int[Color.values().length];
+        this.movables = new int[Color.values().length];
+        for (Color color : Color.values()) {
+            this.pieces[color.ordinal()] = Long.bitCount(board.getPieces(color));
+            this.draughts[color.ordinal()] = Long.bitCount(board.getPieces(color) & board.getDraughts());
+            this.movables[color.ordinal()] = Long.bitCount(board.getMovables(color));
+        }
+    }
+
+    long getKey() {
+        return this.key;
+    }
+
+    public Color getTurnColor() {
+        return this.turnColor;
+    }
+
+    public int getPieces(Color color) {
+        return this.pieces[color.ordinal()];
+    }
+
+    public int getDraughts(Color color) {
+        return this.draughts[color.ordinal()];
+    }
+
+    public int getPawns(Color color) {
+        return this.getPieces(color) - this.getDraughts(color);
+    }
+
+    public int getMovables(Color color) {
+        return this.movables[color.ordinal()];
+    }
+
+    public boolean isBlocked() {
+        return this.getMovables(this.turnColor) == 0;
+    }
+
+    public Color getWinner() {
+        if (!this.isBlocked())
+            return null;
+        return this.turnColor.getOpposite();
+    }
+
+    @Override
+    public String toString() {
+        String string = "";
+        for (Color color : Color.values())
+            string += color.name() + ": " + this.getPawns(color) + " pawns, " + this.getDraughts(color)
+                + " draughts, " + this.getMovables(color) + " movables\n";
+        return string + (this.isBlocked() ? "winner " + this.getWinner() : "turn " + this.turnColor);
+    }
+
+}
@@ -0,0 +1,126 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+final class Geometry {
+
+    static final int NONE = -1;
+
+    private static final int DIMENSION = Coordinate.getDimension();
+    private static final int SQUARES = Geometry.DIMENSION * Geometry.DIMENSION;
+    private static final Direction[] VALUES = Direction.values();
+
+    private static final Direction[][] DIRECTIONS = new Direction[Geometry.SQUARES][Geometry.SQUARES];
+    private static final int[][] DISTANCES = new int[Geometry.SQUARES][Geometry.SQUARES];
+    private static final long[][] BETWEENS = new long[Geometry.SQUARES][Geometry.SQUARES];
+    private static final long[][] RAYS = new long[Geometry.SQUARES][Geometry.VALUES.length];
+    private static final int[][][] SHIFTS = new int[Geometry.SQUARES][Geometry.VALUES.length][Geometry.DIMENSION];
+    private static final int[][][] DIAGONALS = new int[Geometry.SQUARES][Geometry.DIMENSION][];
+    private static final long[] STEP_ORIGINS = new long[Geometry.VALUES.length];
+    private static final int[] STEP_OFFSETS = new int[Geometry.VALUES.length];
+
+    static {
+        for (int square = 0; square < Geometry.SQUARES; square++) {
+            for (Direction direction : Geometry.VALUES)
+                Geometry.initRay(square, direction);
+            for (int distance = 1; distance < Geometry.DIMENSION; distance++)
+                Geometry.initDiagonals(square, distance);
+        }
+        for (Direction direction : Geometry.VALUES) {
+            final Coordinate shift = direction.getDistanceCoordinate(1);
+            Geometry.STEP_OFFSETS[direction.ordinal()] = shift.getRow() * Geometry.DIMENSION + shift.getColumn();
+            for (int square = 0; square < Geometry.SQUARES; square++)
+                if (Geometry.SHIFTS[square][direction.ordinal()][1] != Geometry.NONE)
+                    Geometry.STEP_ORIGINS[direction.ordinal()] |= 1L << square;
+        }
+    }
+
+    private Geometry() {
+    }
+
+    private static void initRay(int origin, Direction direction) {
+        final int[] shifts = Geometry.SHIFTS[origin][direction.ordinal()];
+        shifts[0] = origin;
+        long between = 0;
+        for (int distance = 1; distance < Geometry.DIMENSION; distance++) {
+            final Coordinate shift = direction.getDistanceCoordinate(distance);
+            final int row = Geometry.getRow(origin) + shift.getRow();
+            final int column = Geometry.getColumn(origin) + shift.getColumn();
+            if (row < 0 || row >= Geometry.DIMENSION || column < 0 || column >= Geometry.DIMENSION) {
+                for (; distance < Geometry.DIMENSION; distance++)
+                    shifts[distance] = Geometry.NONE;
+                return;
+            }
+            final int target = row * Geometry.DIMENSION + column;
+            shifts[distance] = target;
+            Geometry.DIRECTIONS[origin][target] = direction;
+            Geometry.DISTANCES[origin][target] = distance;
+            Geometry.BETWEENS[origin][target] = between;
+            Geometry.RAYS[origin][direction.ordinal()] |= 1L << target;
+            between |= 1L << target;
+        }
+    }
+
+    private static void initDiagonals(int origin, int distance) {
+        int amount = 0;
+        for (Direction direction : Geometry.VALUES)
+            if (Geometry.SHIFTS[origin][direction.ordinal()][distance] != Geometry.NONE)
+                amount++;
+        final int[] diagonals = new int[amount];
+        amount = 0;
+        for (Direction direction : Geometry.VALUES) {
+            final int target = Geometry.SHIFTS[origin][direction.ordinal()][distance];
+            if (target != Geometry.NONE)
+                diagonals[amount++] = target;
+        }
+        Geometry.DIAGONALS[origin][distance] = diagonals;
+    }
+
+    static Direction[] getDirections() {
+        return Geometry.VALUES;
+    }
+
+    static long getBackward(long squares, Direction direction) {
+        final int offset = Geometry.STEP_OFFSETS[direction.ordinal()];
+        final long origins = offset > 0 ? squares >>> offset : squares << -offset;
+        return origins & Geometry.STEP_ORIGINS[direction.ordinal()];
+    }
+
+    static int getRow(int square) {
+        return square / Geometry.DIMENSION;
+    }
+
+    static int getColumn(int square) {
+        return square % Geometry.DIMENSION;
+    }
+
+    static Direction getDirection(int origin, int target) {
+        return Geometry.DIRECTIONS[origin][target];
+    }
+
+    static boolean isOnDiagonal(int origin, int target) {
+        return Geometry.DIRECTIONS[origin][target] != null;
+    }
+
+    static int getDiagonalDistance(int origin, int target) {
+        assert Geometry.isOnDiagonal(origin, target);
+        return Geometry.DISTANCES[origin][target];
+    }
+
+    static long getBetween(int origin, int target) {
+        return Geometry.BETWEENS[origin][target];
+    }
+
+    static long getRay(int origin, Direction direction) {
+        return Geometry.RAYS[origin][direction.ordinal()];
+    }
+
+    static int getShifted(int origin, Direction direction, int distance) {
+        assert 0 <= distance && distance < Geometry.DIMENSION;
+        return Geometry.SHIFTS[origin][direction.ordinal()][distance];
+    }
+
+    static int[] getDiagonals(int origin, int distance) {
+        assert 0 < distance && distance < Geometry.DIMENSION;
+        return Geometry.DIAGONALS[origin][distance];
+    }
+
+}
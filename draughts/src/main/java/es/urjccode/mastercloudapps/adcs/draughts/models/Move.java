@@ -0,0 +1,76 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+public final class Move {
+
+    public static final long NONE = 0;
+    public static final int MAX_LENGTH = 10;
+
+    private static final int LENGTH_BITS = 4;
+    private static final int SQUARE_BITS = 6;
+    private static final long LENGTH_MASK = (1L << Move.LENGTH_BITS) - 1;
+    private static final long SQUARE_MASK = (1L << Move.SQUARE_BITS) - 1;
+    private static final String SEPARATOR = ".";
+
+    private Move() {
+    }
+
+    public static long getInstance(Coordinate... coordinates) {
+        assert coordinates != null;
+        long move = Move.NONE;
+        for (Coordinate coordinate : coordinates) {
+            assert coordinate != null;
+            move = Move.add(move, coordinate.getSquare());
+        }
+        return move;
+    }
+
+    static long getInstance(int origin, int target) {
+        return Move.add(Move.add(Move.NONE, origin), target);
+    }
+
+    static long add(long move, int square) {
+        final int length = Move.getLength(move);
+        if (length >= Move.MAX_LENGTH)
+            throw new IllegalArgumentException("Move longer than " + Move.MAX_LENGTH + " squares");
+        if (square < 0 || square > Move.SQUARE_MASK)
+            throw new IllegalArgumentException("Square out of range: " + square);
+        return (move & ~Move.LENGTH_MASK) | ((long) square << Move.getShift(length)) | (length + 1);
+    }
+
+    public static int getLength(long move) {
+        return (int) (move & Move.LENGTH_MASK);
+    }
+
+    static int getSquare(long move, int index) {
+        assert 0 <= index && index < Move.getLength(move);
+        return (int) ((move >>> Move.getShift(index)) & Move.SQUARE_MASK);
+    }
+
+    static int getOrigin(long move) {
+        return Move.getSquare(move, 0);
+    }
+
+    static int getTarget(long move) {
+        return Move.getSquare(move, Move.getLength(move) - 1);
+    }
+
+    public static Coordinate getCoordinate(long move, int index) {
+        return Coordinate.getInstance(Move.getSquare(move, index));
+    }
+
+    private static int getShift(int index) {
+        return Move.LENGTH_BITS + index * Move.SQUARE_BITS;
+    }
+
+    public static String toString(long move) {
+        String string = "";
+        for (int i = 0; i < Move.getLength(move); i++) {
+            if (i > 0)
+                string += Move.SEPARATOR;
+            final int square = Move.getSquare(move, i);
+            string += (Geometry.getRow(square) + 1) + "" + (Geometry.getColumn(square) + 1);
+        }
+        return string;
+    }
+
+}
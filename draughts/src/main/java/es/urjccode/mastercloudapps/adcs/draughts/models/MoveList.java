@@ -0,0 +1,75 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.Arrays;
+
+public class MoveList {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private long[] moves;
+    private int size;
+
+    public MoveList() {
+        this(MoveList.DEFAULT_CAPACITY);
+    }
+
+    public MoveList(int capacity) {
+        assert capacity > 0;
+        this.moves = new long[capacity];
+        this.size = 0;
+    }
+
+    void add(long move) {
+        if (this.size == this.moves.length)
+            this.moves = Arrays.copyOf(this.moves, this.moves.length * 2);
+        this.moves[this.size++] = move;
+    }
+
+    public long get(int index) {
+        assert 0 <= index && index < this.size;
+        return this.moves[index];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public boolean contains(long move) {
+        return this.indexOf(move) != -1;
+    }
+
+    public int indexOf(long move) {
+        for (int i = 0; i < this.size; i++)
+            if (this.moves[i] == move)
+                return i;
+        return -1;
+    }
+
+    public void swap(int index, int other) {
+        assert 0 <= index && index < this.size;
+        assert 0 <= other && other < this.size;
+        final long move = this.moves[index];
+        this.moves[index] = this.moves[other];
+        this.moves[other] = move;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    @Override
+    public String toString() {
+        String string = "[";
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0)
+                string += ", ";
+            string += Move.toString(this.moves[i]);
+        }
+        return string + "]";
+    }
+
+}
@@ -0,0 +1,58 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MoveValidation {
+
+    private final Error error;
+    private final long captures;
+    private final boolean promotion;
+
+    MoveValidation(Error error) {
+        assert error != null;
+        this.error = error;
+        this.captures = 0;
+        this.promotion = false;
+    }
+
+    MoveValidation(long captures, boolean promotion) {
+        this.error = null;
+        this.captures = captures;
+        this.promotion = promotion;
+    }
+
+    public boolean isCorrect() {
+        return this.error == null;
+    }
+
+    public Error getError() {
+        return this.error;
+    }
+
+    public int getAmountCaptures() {
+        return Long.bitCount(this.captures);
+    }
+
+    public List<Coordinate> getCaptures() {
+        List<Coordinate> coordinates = new ArrayList<Coordinate>();
+        long captures = this.captures;
+        while (captures != 0) {
+            coordinates.add(Coordinate.getInstance(Long.numberOfTrailingZeros(captures)));
+            captures &= captures - 1;
+        }
+        return coordinates;
+    }
+
+    public boolean isPromotion() {
+        return this.promotion;
+    }
+
+    @Override
+    public String toString() {
+        if (!this.isCorrect())
+            return this.error.name();
+        return this.getCaptures().toString();
+    }
+
+}
@@ -4,16 +4,22 @@ public class Pawn extends Piece {
 
     private static char[] CHARACTERS = {'b', 'n'};
     private static final int MAX_DISTANCE = 2;
+    private static final Pawn[] INSTANCES = { new Pawn(Color.WHITE), new Pawn(Color.BLACK) };
 
     Pawn(Color color) {
         super(color);
     }
 
+    static Pawn getInstance(Color color) {
+        assert color != null;
+        return Pawn.INSTANCES[color.ordinal()];
+    }
+
     @Override
-    Error isCorrectDiagonalMovement(int amountBetweenDiagonalPieces, int pair, Coordinate... coordinates) {
-		if (!this.isAdvanced(coordinates[pair], coordinates[pair+1])) 
+    Error isCorrectDiagonalMovement(int amountBetweenDiagonalPieces, int origin, int target) {
+		if (!this.isAdvanced(origin, target)) 
 			return Error.NOT_ADVANCED;
-		int distance = coordinates[pair].getDiagonalDistance(coordinates[pair+1]);
+		int distance = Geometry.getDiagonalDistance(origin, target);
 		if (distance > Pawn.MAX_DISTANCE) 
 			return Error.TOO_MUCH_ADVANCED;
 		if (distance == Pawn.MAX_DISTANCE && amountBetweenDiagonalPieces != 1) 
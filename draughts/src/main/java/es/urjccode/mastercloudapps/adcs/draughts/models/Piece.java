@@ -1,7 +1,5 @@
 package es.urjccode.mastercloudapps.adcs.draughts.models;
 
-import java.util.List;
-
 public abstract class Piece {
 
 	protected Color color;
@@ -12,33 +10,43 @@ public abstract class Piece {
 		this.color = color;
 	}
 
-	Error isCorrectMovement(List<Piece> betweenDiagonalPieces, int pair, Coordinate... coordinates){
-		assert coordinates[pair] != null;
-		assert coordinates[pair + 1] != null;
-		if (!coordinates[pair].isOnDiagonal(coordinates[pair + 1]))
+	Error isCorrectMovement(int origin, int target, long pieces, long colleagues) {
+		if (!Geometry.isOnDiagonal(origin, target))
 			return Error.NOT_DIAGONAL;
-		for(Piece piece : betweenDiagonalPieces)
-			if (this.color == piece.getColor())
-				return Error.COLLEAGUE_EATING;
-		return this.isCorrectDiagonalMovement(betweenDiagonalPieces.size(), pair, coordinates);
+		final long between = Geometry.getBetween(origin, target);
+		if ((between & colleagues) != 0)
+			return Error.COLLEAGUE_EATING;
+		return this.isCorrectDiagonalMovement(Long.bitCount(between & pieces), origin, target);
 	}
 
-	abstract Error isCorrectDiagonalMovement(int amountBetweenDiagonalPieces, int pair, Coordinate... coordinates);
+	abstract Error isCorrectDiagonalMovement(int amountBetweenDiagonalPieces, int origin, int target);
 
 	boolean isLimit(Coordinate coordinate) {
 		return coordinate.isFirst() && this.getColor() == Color.WHITE
 				|| coordinate.isLast() && this.getColor() == Color.BLACK;
 	}
 
+	boolean isLimit(int square) {
+		return this.isLimit(Coordinate.getInstance(square));
+	}
+
 	boolean isAdvanced(Coordinate origin, Coordinate target) {
 		assert origin != null;
 		assert target != null;
-		int difference = origin.getRow() - target.getRow();
+		return this.isAdvanced(origin.getSquare(), target.getSquare());
+	}
+
+	boolean isAdvanced(int origin, int target) {
+		int difference = Geometry.getRow(origin) - Geometry.getRow(target);
 		if (color == Color.WHITE)
 			return difference > 0;
 		return difference < 0;
 	}
 
+	boolean isDraught() {
+		return false;
+	}
+
 	public Color getColor() {
 		return this.color;
 	}
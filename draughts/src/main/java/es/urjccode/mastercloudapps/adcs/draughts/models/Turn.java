@@ -3,21 +3,33 @@ package es.urjccode.mastercloudapps.adcs.draughts.models;
 class Turn {
 
   private Color color;
+  private long key;
 
   Turn() {
     this.color = Color.WHITE;
+    this.key = Zobrist.getKey(this.color);
+  }
+
+  Turn(Turn turn) {
+    this.color = turn.color;
+    this.key = turn.key;
   }
 
   void change() {
+    this.key ^= Zobrist.getKey(this.color) ^ Zobrist.getKey(this.getOppositeColor());
     this.color = this.getOppositeColor();
   }
 
+  long getKey() {
+    return this.key;
+  }
+
   Color getColor() {
     return this.color;
   }
 
   Color getOppositeColor() {
-    return Color.values()[(this.color.ordinal() + 1) % 2];
+    return this.color.getOpposite();
   }
 
   @Override
@@ -0,0 +1,41 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+class Undo {
+
+    private long move;
+    private Piece piece;
+    private boolean promoted;
+    private long removed;
+    private long removedDraughts;
+
+    void set(long move, Piece piece, boolean promoted, long removed, long removedDraughts) {
+        assert piece != null;
+        assert (removedDraughts & ~removed) == 0;
+        this.move = move;
+        this.piece = piece;
+        this.promoted = promoted;
+        this.removed = removed;
+        this.removedDraughts = removedDraughts;
+    }
+
+    long getMove() {
+        return this.move;
+    }
+
+    Piece getPiece() {
+        return this.piece;
+    }
+
+    boolean isPromoted() {
+        return this.promoted;
+    }
+
+    long getRemoved() {
+        return this.removed;
+    }
+
+    boolean isRemovedDraught(int square) {
+        return (this.removedDraughts & 1L << square) != 0;
+    }
+
+}
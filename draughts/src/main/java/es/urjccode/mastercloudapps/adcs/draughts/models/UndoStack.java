@@ -0,0 +1,50 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.Arrays;
+
+class UndoStack {
+
+    static final int DEFAULT_CAPACITY = 256;
+    static final int FORK_CAPACITY = 8;
+
+    private Undo[] undos;
+    private int size;
+
+    UndoStack() {
+        this(UndoStack.DEFAULT_CAPACITY);
+    }
+
+    UndoStack(int capacity) {
+        assert capacity > 0;
+        this.undos = new Undo[0];
+        this.grow(capacity);
+        this.clear();
+    }
+
+    Undo push() {
+        if (this.size == this.undos.length)
+            this.grow(this.undos.length * 2);
+        return this.undos[this.size++];
+    }
+
+    Undo pop() {
+        assert !this.isEmpty();
+        return this.undos[--this.size];
+    }
+
+    private void grow(int capacity) {
+        final int length = this.undos.length;
+        this.undos = Arrays.copyOf(this.undos, capacity);
+        for (int i = length; i < capacity; i++)
+            this.undos[i] = new Undo();
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    void clear() {
+        this.size = 0;
+    }
+
+}
@@ -0,0 +1,43 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+final class Zobrist {
+
+    private static final long SEED = 0x5DEECE66DL;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int SQUARES = Coordinate.getDimension() * Coordinate.getDimension();
+
+    private static final long[][][] PIECES = new long[Color.values().length][2][Zobrist.SQUARES];
+    private static final long TURN;
+
+    static {
+        long state = Zobrist.SEED;
+        for (long[][] kinds : Zobrist.PIECES)
+            for (long[] squares : kinds)
+                for (int i = 0; i < squares.length; i++) {
+                    state += Zobrist.GOLDEN_GAMMA;
+                    squares[i] = Zobrist.mix(state);
+                }
+        state += Zobrist.GOLDEN_GAMMA;
+        TURN = Zobrist.mix(state);
+    }
+
+    private Zobrist() {
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    static long getKey(Piece piece, int square) {
+        return Zobrist.PIECES[piece.getColor().ordinal()][piece.isDraught() ? 1 : 0][square];
+    }
+
+    static long getKey(Color color) {
+        if (color == Color.WHITE)
+            return 0;
+        return Zobrist.TURN;
+    }
+
+}
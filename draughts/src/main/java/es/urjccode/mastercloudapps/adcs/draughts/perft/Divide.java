@@ -0,0 +1,48 @@
+package es.urjccode.mastercloudapps.adcs.draughts.perft;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveList;
+
+public class Divide {
+
+    private final MoveList moves;
+    private final long[] nodes;
+
+    Divide(MoveList moves) {
+        assert moves != null;
+        this.moves = moves;
+        this.nodes = new long[moves.size()];
+    }
+
+    void setNodes(int index, long nodes) {
+        this.nodes[index] = nodes;
+    }
+
+    public int size() {
+        return this.moves.size();
+    }
+
+    public long getMove(int index) {
+        return this.moves.get(index);
+    }
+
+    public long getNodes(int index) {
+        return this.nodes[index];
+    }
+
+    public long getTotal() {
+        long total = 0;
+        for (long nodes : this.nodes)
+            total += nodes;
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        String string = "";
+        for (int i = 0; i < this.size(); i++)
+            string += Move.toString(this.getMove(i)) + ": " + this.getNodes(i) + "\n";
+        return string + "Total: " + this.getTotal() + "\n";
+    }
+
+}
@@ -0,0 +1,66 @@
+package es.urjccode.mastercloudapps.adcs.draughts.perft;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveList;
+
+public class ParallelPerft {
+
+    public static final int DEFAULT_MEGABYTES = 64;
+
+    private final Game game;
+    private final int parallelism;
+    private final PerftTable table;
+
+    public ParallelPerft(Game game) {
+        this(game, Runtime.getRuntime().availableProcessors(), ParallelPerft.DEFAULT_MEGABYTES);
+    }
+
+    public ParallelPerft(Game game, int parallelism, int megabytes) {
+        assert game != null;
+        assert parallelism > 0;
+        this.game = game;
+        this.parallelism = parallelism;
+        this.table = new PerftTable(megabytes);
+    }
+
+    public long count(int depth) {
+        assert depth >= 0;
+        final ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            return pool.invoke(new PerftTask(this.game.fork(), depth, this.table));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public Divide divide(int depth) {
+        assert depth > 0;
+        final MoveList moves = new MoveList();
+        this.game.getMoves(moves);
+        final Divide divide = new Divide(moves);
+        final ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            final List<ForkJoinTask<Long>> tasks = new ArrayList<ForkJoinTask<Long>>();
+            for (int i = 0; i < moves.size(); i++) {
+                final Game child = this.game.fork();
+                child.make(moves.get(i));
+                tasks.add(pool.submit(new PerftTask(child, depth - 1, this.table)));
+            }
+            for (int i = 0; i < tasks.size(); i++)
+                divide.setNodes(i, tasks.get(i).join());
+        } finally {
+            pool.shutdown();
+        }
+        return divide;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+}
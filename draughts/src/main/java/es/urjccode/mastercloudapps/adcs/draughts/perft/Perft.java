@@ -0,0 +1,78 @@
+package es.urjccode.mastercloudapps.adcs.draughts.perft;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveList;
+
+public class Perft {
+
+    private final Game game;
+    private final PerftTable table;
+    private MoveList[] moves;
+
+    public Perft(Game game) {
+        this(game, null);
+    }
+
+    Perft(Game game, PerftTable table) {
+        assert game != null;
+        this.game = game;
+        this.table = table;
+        this.moves = new MoveList[0];
+    }
+
+    public long count(int depth) {
+        assert depth >= 0;
+        return this.count(depth, 0);
+    }
+
+    public Divide divide(int depth) {
+        assert depth > 0;
+        final MoveList moves = new MoveList();
+        this.game.getMoves(moves);
+        final Divide divide = new Divide(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            this.game.make(moves.get(i));
+            divide.setNodes(i, this.count(depth - 1, 0));
+            this.game.unmake();
+        }
+        return divide;
+    }
+
+    private long count(int depth, int ply) {
+        if (depth == 0)
+            return 1;
+        final MoveList moves = this.getMoves(ply);
+        if (depth == 1) {
+            this.game.getMoves(moves);
+            return moves.size();
+        }
+        final long key = this.game.getKey();
+        if (this.table != null) {
+            final long nodes = this.table.get(key, depth);
+            if (nodes != PerftTable.NONE)
+                return nodes;
+        }
+        this.game.getMoves(moves);
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            this.game.make(moves.get(i));
+            nodes += this.count(depth - 1, ply + 1);
+            this.game.unmake();
+        }
+        if (this.table != null)
+            this.table.put(key, depth, nodes);
+        return nodes;
+    }
+
+    private MoveList getMoves(int ply) {
+        if (ply >= this.moves.length) {
+            final MoveList[] moves = new MoveList[ply + 1];
+            System.arraycopy(this.moves, 0, moves, 0, this.moves.length);
+            for (int i = this.moves.length; i < moves.length; i++)
+                moves[i] = new MoveList();
+            this.moves = moves;
+        }
+        return this.moves[ply];
+    }
+
+}
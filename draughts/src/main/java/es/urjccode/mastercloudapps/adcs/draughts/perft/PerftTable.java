@@ -0,0 +1,44 @@
+package es.urjccode.mastercloudapps.adcs.draughts.perft;
+
+class PerftTable {
+
+    static final long NONE = -1;
+
+    private static final int ENTRY_LONGS = 2;
+    private static final int DEPTH_BITS = 8;
+    private static final long DEPTH_MASK = (1L << PerftTable.DEPTH_BITS) - 1;
+    private static final long MEGABYTE = 1024 * 1024;
+
+    private final long[] entries;
+    private final int mask;
+
+    PerftTable(int megabytes) {
+        assert megabytes > 0;
+        final long capacity = Long.highestOneBit(megabytes * PerftTable.MEGABYTE / (PerftTable.ENTRY_LONGS * Long.BYTES));
+        assert capacity * PerftTable.ENTRY_LONGS <= Integer.MAX_VALUE;
+        this.entries = new long[(int) capacity * PerftTable.ENTRY_LONGS];
+        this.mask = (int) capacity - 1;
+    }
+
+    long get(long key, int depth) {
+        final int index = this.getIndex(key);
+        final long data = this.entries[index + 1];
+        if ((this.entries[index] ^ data) != key || (data & PerftTable.DEPTH_MASK) != depth)
+            return PerftTable.NONE;
+        return data >>> PerftTable.DEPTH_BITS;
+    }
+
+    void put(long key, int depth, long nodes) {
+        assert 0 < depth && depth <= PerftTable.DEPTH_MASK;
+        assert 0 <= nodes && nodes >>> (Long.SIZE - PerftTable.DEPTH_BITS) == 0;
+        final int index = this.getIndex(key);
+        final long data = nodes << PerftTable.DEPTH_BITS | depth;
+        this.entries[index] = key ^ data;
+        this.entries[index + 1] = data;
+    }
+
+    private int getIndex(long key) {
+        return ((int) key & this.mask) * PerftTable.ENTRY_LONGS;
+    }
+
+}
@@ -0,0 +1,49 @@
+package es.urjccode.mastercloudapps.adcs.draughts.perft;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveList;
+
+class PerftTask extends RecursiveTask<Long> {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int SEQUENTIAL_DEPTH = 3;
+
+    private final Game game;
+    private final int depth;
+    private final PerftTable table;
+
+    PerftTask(Game game, int depth, PerftTable table) {
+        this.game = game;
+        this.depth = depth;
+        this.table = table;
+    }
+
+    @Override
+    protected Long compute() {
+        if (this.depth <= PerftTask.SEQUENTIAL_DEPTH)
+            return new Perft(this.game, this.table).count(this.depth);
+        final long key = this.game.getKey();
+        final long cached = this.table.get(key, this.depth);
+        if (cached != PerftTable.NONE)
+            return cached;
+        final MoveList moves = new MoveList();
+        this.game.getMoves(moves);
+        final List<PerftTask> tasks = new ArrayList<PerftTask>();
+        for (int i = 0; i < moves.size(); i++) {
+            final Game child = this.game.fork();
+            child.make(moves.get(i));
+            tasks.add(new PerftTask(child, this.depth - 1, this.table));
+        }
+        long nodes = 0;
+        for (PerftTask task : RecursiveTask.invokeAll(tasks))
+            nodes += task.join();
+        this.table.put(key, this.depth, nodes);
+        return nodes;
+    }
+
+}
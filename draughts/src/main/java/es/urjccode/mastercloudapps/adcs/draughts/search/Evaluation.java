@@ -0,0 +1,49 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+final class Evaluation {
+
+    static final int PAWN = 100;
+    static final int DRAUGHT = 300;
+    private static final int ADVANCE = 4;
+    private static final int MOBILITY = 2;
+    private static final int[][] PAWN_SCORES = Evaluation.getPawnScores();
+
+    private Evaluation() {
+    }
+
+    private static int[][] getPawnScores() {
+        final int dimension = Coordinate.getDimension();
+        final int[][] scores = new int[Color.values().length][dimension * dimension];
+        for (int square = 0; square < dimension * dimension; square++) {
+            final int row = square / dimension;
+            scores[Color.WHITE.ordinal()][square] = Evaluation.PAWN + Evaluation.ADVANCE * (dimension - 1 - row);
+            scores[Color.BLACK.ordinal()][square] = Evaluation.PAWN + Evaluation.ADVANCE * row;
+        }
+        return scores;
+    }
+
+    static int evaluate(Game game) {
+        final Color color = game.getTurnColor();
+        final Color opposite = color == Color.WHITE ? Color.BLACK : Color.WHITE;
+        return Evaluation.evaluate(game, color) - Evaluation.evaluate(game, opposite);
+    }
+
+    private static int evaluate(Game game, Color color) {
+        final long pieces = game.getPieces(color);
+        final long draughts = pieces & game.getDraughts();
+        int score = Long.bitCount(draughts) * Evaluation.DRAUGHT
+            + Long.bitCount(game.getMovables(color)) * Evaluation.MOBILITY;
+        final int[] pawnScores = Evaluation.PAWN_SCORES[color.ordinal()];
+        long pawns = pieces & ~draughts;
+        while (pawns != 0) {
+            score += pawnScores[Long.numberOfTrailingZeros(pawns)];
+            pawns &= pawns - 1;
+        }
+        return score;
+    }
+
+}
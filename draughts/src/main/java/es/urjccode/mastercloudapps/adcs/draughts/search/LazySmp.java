@@ -0,0 +1,136 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Metrics;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+public class LazySmp {
+
+    private static final String THREAD_NAME = "lazy-smp-";
+    private static final int[] SKIP_SIZES = { 1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4 };
+    private static final int[] SKIP_PHASES = { 0, 1, 0, 1, 2, 3, 0, 1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5, 6, 7 };
+
+    private final Game game;
+    private final int threads;
+    private final TranspositionTable table;
+    private volatile Search[] searches;
+    private volatile boolean canceled;
+
+    public LazySmp(Game game) {
+        this(game, Runtime.getRuntime().availableProcessors());
+    }
+
+    public LazySmp(Game game, int threads) {
+        this(game, threads, new TranspositionTable(TranspositionTable.DEFAULT_MEGABYTES));
+    }
+
+    public LazySmp(Game game, int threads, TranspositionTable table) {
+        assert game != null;
+        assert threads > 0;
+        assert table != null;
+        this.game = game;
+        this.threads = threads;
+        this.table = table;
+    }
+
+    public LazySmpResult search(int depth) {
+        assert 0 < depth && depth <= Search.MAX_DEPTH;
+        return this.search(depth, null);
+    }
+
+    public LazySmpResult search(TimeManager timeManager) {
+        assert timeManager != null;
+        return this.search(Search.MAX_DEPTH, timeManager);
+    }
+
+    public void cancel() {
+        this.canceled = true;
+        final Search[] searches = this.searches;
+        if (searches != null)
+            for (Search search : searches)
+                search.cancel();
+    }
+
+    public void reset() {
+        this.canceled = false;
+    }
+
+    private LazySmpResult search(int maxDepth, TimeManager timeManager) {
+        final long start = System.nanoTime();
+        if (timeManager != null)
+            timeManager.start();
+        this.table.newSearch();
+        final Search[] searches = new Search[this.threads];
+        for (int i = 0; i < searches.length; i++)
+            searches[i] = this.getSearch(i);
+        this.searches = searches;
+        for (Search search : searches)
+            if (this.canceled)
+                search.cancel();
+        final SearchResult[] results = new SearchResult[this.threads];
+        final Throwable[] failures = new Throwable[this.threads];
+        final Thread[] helpers = new Thread[this.threads - 1];
+        try {
+            for (int i = 0; i < helpers.length; i++) {
+                final int index = i + 1;
+                helpers[i] = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            results[index] = searches[index].search(Search.MAX_DEPTH, null);
+                        } catch (Throwable ex) {
+                            failures[index] = ex;
+                        }
+                    }
+                }, LazySmp.THREAD_NAME + index);
+                helpers[i].setDaemon(true);
+                helpers[i].start();
+            }
+            results[0] = searches[0].search(maxDepth, timeManager);
+        } finally {
+            for (int i = 1; i < searches.length; i++)
+                searches[i].cancel();
+            LazySmp.join(helpers);
+        }
+        for (Throwable failure : failures)
+            if (failure != null)
+                throw new IllegalStateException(failure);
+        final LazySmpResult result = new LazySmpResult(results, System.nanoTime() - start);
+        Metrics.recordSearch(result.getNodes(), result.getNanos());
+        return result;
+    }
+
+    Search getSearch(final int index) {
+        if (index == 0)
+            return new Search(this.game, this.table);
+        return new Search(this.game.fork(), this.table) {
+            @Override
+            boolean isSkipped(int depth) {
+                return LazySmp.isSkipped(index, depth);
+            }
+        };
+    }
+
+    static boolean isSkipped(int helper, int depth) {
+        assert helper > 0;
+        final int pattern = (helper - 1) % LazySmp.SKIP_SIZES.length;
+        return (depth + LazySmp.SKIP_PHASES[pattern]) / LazySmp.SKIP_SIZES[pattern] % 2 != 0;
+    }
+
+    private static void join(Thread[] threads) {
+        boolean interrupted = false;
+        for (Thread thread : threads)
+            while (thread != null && thread.isAlive())
+                try {
+                    thread.join();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    public int getThreads() {
+        return this.threads;
+    }
+
+}
@@ -0,0 +1,69 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+public class LazySmpResult {
+
+    private final SearchResult[] results;
+    private final SearchResult result;
+    private final long nanos;
+
+    LazySmpResult(SearchResult[] results, long nanos) {
+        assert results.length > 0;
+        this.results = results;
+        this.nanos = nanos;
+        SearchResult deepest = results[0];
+        long nodes = 0;
+        for (SearchResult result : results) {
+            nodes += result.getNodes();
+            if (result.getDepth() > deepest.getDepth())
+                deepest = result;
+        }
+        this.result = new SearchResult(deepest.getMove(), deepest.getScore(), deepest.getDepth(), nodes, nanos);
+    }
+
+    public SearchResult getResult() {
+        return this.result;
+    }
+
+    public long getMove() {
+        return this.result.getMove();
+    }
+
+    public int getScore() {
+        return this.result.getScore();
+    }
+
+    public int getDepth() {
+        return this.result.getDepth();
+    }
+
+    public long getNodes() {
+        return this.result.getNodes();
+    }
+
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    public int getThreads() {
+        return this.results.length;
+    }
+
+    public long getNodes(int thread) {
+        assert 0 <= thread && thread < this.results.length;
+        return this.results[thread].getNodes();
+    }
+
+    public int getDepth(int thread) {
+        assert 0 <= thread && thread < this.results.length;
+        return this.results[thread].getDepth();
+    }
+
+    @Override
+    public String toString() {
+        String string = this.result.toString();
+        for (int i = 0; i < this.results.length; i++)
+            string += "\nthread " + i + ": depth " + this.getDepth(i) + " nodes " + this.getNodes(i);
+        return string;
+    }
+
+}
@@ -0,0 +1,237 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Metrics;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveList;
+
+public class Search {
+
+    public static final int INFINITY = 1000000;
+    public static final int WIN = 100000;
+    public static final int MAX_DEPTH = 64;
+    static final int MAX_PLY = 128;
+    private static final long CHECK_MASK = 1023;
+
+    private final Game game;
+    private final TranspositionTable table;
+    private MoveList[] moves;
+    private long nodes;
+    private TimeManager timeManager;
+    private volatile boolean canceled;
+    private boolean interruptible;
+    private boolean aborted;
+    private long iterationMove;
+
+    public Search(Game game) {
+        this(game, null);
+    }
+
+    public Search(Game game, TranspositionTable table) {
+        assert game != null;
+        this.game = game;
+        this.table = table;
+        this.moves = new MoveList[0];
+    }
+
+    public SearchResult search(int depth) {
+        assert 0 < depth && depth <= Search.MAX_DEPTH;
+        return this.start(depth, null);
+    }
+
+    public SearchResult search(TimeManager timeManager) {
+        assert timeManager != null;
+        return this.start(Search.MAX_DEPTH, timeManager);
+    }
+
+    public void cancel() {
+        this.canceled = true;
+    }
+
+    public void reset() {
+        this.canceled = false;
+    }
+
+    private SearchResult start(int maxDepth, TimeManager timeManager) {
+        if (timeManager != null)
+            timeManager.start();
+        if (this.table != null)
+            this.table.newSearch();
+        final SearchResult result = this.search(maxDepth, timeManager);
+        Metrics.recordSearch(result.getNodes(), result.getNanos());
+        return result;
+    }
+
+    SearchResult search(int maxDepth, TimeManager timeManager) {
+        final long start = System.nanoTime();
+        this.nodes = 0;
+        this.timeManager = timeManager;
+        this.interruptible = false;
+        this.aborted = false;
+        final MoveList moves = this.getMoves(0);
+        this.game.getMoves(moves);
+        long bestMove = Move.NONE;
+        int bestScore = -Search.WIN;
+        int depth = 0;
+        int stableIterations = 0;
+        for (int next = 1; next <= maxDepth && !moves.isEmpty(); next++) {
+            if (this.isSkipped(next))
+                continue;
+            final int score = this.search(moves, next, bestMove);
+            if (this.aborted)
+                break;
+            stableIterations = this.iterationMove == bestMove ? stableIterations + 1 : 0;
+            bestMove = this.iterationMove;
+            bestScore = score;
+            depth = next;
+            this.interruptible = true;
+            if (this.isStopped())
+                break;
+            if (timeManager != null && (moves.size() == 1 || Math.abs(score) > Search.WIN - Search.MAX_PLY
+                    || timeManager.isSoftExpired(stableIterations)))
+                break;
+        }
+        return new SearchResult(bestMove, bestScore, depth, this.nodes, System.nanoTime() - start);
+    }
+
+    private int search(MoveList moves, int depth, long bestMove) {
+        final int index = moves.indexOf(bestMove);
+        if (index > 0)
+            moves.swap(0, index);
+        this.iterationMove = Move.NONE;
+        int alpha = -Search.INFINITY;
+        for (int i = 0; i < moves.size(); i++) {
+            this.game.make(moves.get(i));
+            final int score = -this.search(depth - 1, 1, -Search.INFINITY, -alpha);
+            this.game.unmake();
+            if (this.aborted)
+                return 0;
+            if (score > alpha) {
+                this.iterationMove = moves.get(i);
+                alpha = score;
+            }
+        }
+        return alpha;
+    }
+
+    int search(int depth, int ply, int alpha, int beta) {
+        if ((++this.nodes & Search.CHECK_MASK) == 0 && this.isStopped())
+            this.aborted = true;
+        if (this.aborted)
+            return 0;
+        if (depth == 0 || ply >= Search.MAX_PLY) {
+            if (this.game.getMovables(this.game.getTurnColor()) == 0)
+                return -Search.WIN + ply;
+            return Evaluation.evaluate(this.game);
+        }
+        final long key = this.game.getKey();
+        int tableIndex = TranspositionTable.NO_MOVE;
+        if (this.table != null) {
+            final long data = this.table.probe(key);
+            if (data != TranspositionTable.NONE) {
+                final int score = Search.fromTable(TranspositionTable.getScore(data), ply);
+                final int bound = TranspositionTable.getBound(data);
+                if (TranspositionTable.getDepth(data) >= depth && (bound == TranspositionTable.EXACT
+                        || bound == TranspositionTable.LOWER && score >= beta
+                        || bound == TranspositionTable.UPPER && score <= alpha))
+                    return score;
+                tableIndex = TranspositionTable.getMoveIndex(data);
+            }
+        }
+        final MoveList moves = this.getMoves(ply);
+        this.game.getMoves(moves);
+        if (moves.isEmpty())
+            return -Search.WIN + ply;
+        if (tableIndex >= moves.size())
+            tableIndex = TranspositionTable.NO_MOVE;
+        if (tableIndex > 0)
+            moves.swap(0, tableIndex);
+        final int originalAlpha = alpha;
+        int bestScore = -Search.INFINITY;
+        int bestIndex = TranspositionTable.NO_MOVE;
+        for (int i = 0; i < moves.size(); i++) {
+            this.game.make(moves.get(i));
+            final int score = -this.search(depth - 1, ply + 1, -beta, -alpha);
+            this.game.unmake();
+            if (this.aborted)
+                return 0;
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    bestIndex = i;
+                    alpha = score;
+                    if (score >= beta)
+                        break;
+                }
+            }
+        }
+        if (this.table != null)
+            this.table.store(key, depth, Search.getBound(bestScore, originalAlpha, beta),
+                Search.toTable(bestScore, ply), Search.getGeneratedIndex(bestIndex, tableIndex));
+        return bestScore;
+    }
+
+    static int getBound(int score, int alpha, int beta) {
+        if (score >= beta)
+            return TranspositionTable.LOWER;
+        if (score > alpha)
+            return TranspositionTable.EXACT;
+        return TranspositionTable.UPPER;
+    }
+
+    static int getGeneratedIndex(int index, int swapped) {
+        if (index == TranspositionTable.NO_MOVE || swapped <= 0)
+            return index;
+        if (index == 0)
+            return swapped;
+        if (index == swapped)
+            return 0;
+        return index;
+    }
+
+    static int toTable(int score, int ply) {
+        if (score > Search.WIN - Search.MAX_PLY)
+            return score + ply;
+        if (score < -Search.WIN + Search.MAX_PLY)
+            return score - ply;
+        return score;
+    }
+
+    static int fromTable(int score, int ply) {
+        if (score > Search.WIN - Search.MAX_PLY)
+            return score - ply;
+        if (score < -Search.WIN + Search.MAX_PLY)
+            return score + ply;
+        return score;
+    }
+
+    boolean isStopped() {
+        if (!this.interruptible)
+            return false;
+        return this.canceled || this.timeManager != null && this.timeManager.isHardExpired();
+    }
+
+    boolean isSkipped(int depth) {
+        return false;
+    }
+
+    boolean isAborted() {
+        return this.aborted;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    private MoveList getMoves(int ply) {
+        if (ply >= this.moves.length) {
+            final MoveList[] moves = new MoveList[ply + 1];
+            System.arraycopy(this.moves, 0, moves, 0, this.moves.length);
+            for (int i = this.moves.length; i < moves.length; i++)
+                moves[i] = new MoveList();
+            this.moves = moves;
+        }
+        return this.moves[ply];
+    }
+
+}
@@ -0,0 +1,66 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+
+public class SearchResult {
+
+    private static final long NANOS_PER_SECOND = 1000000000;
+
+    private final long move;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long nanos;
+
+    SearchResult(long move, int score, int depth, long nodes, long nanos) {
+        this.move = move;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.nanos = nanos;
+    }
+
+    public long getMove() {
+        return this.move;
+    }
+
+    public boolean hasMove() {
+        return this.move != Move.NONE;
+    }
+
+    public int getScore() {
+        return this.score;
+    }
+
+    public boolean isWin() {
+        return this.score > Search.WIN - Search.MAX_PLY;
+    }
+
+    public boolean isLoss() {
+        return this.score < -Search.WIN + Search.MAX_PLY;
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    public long getNodesPerSecond() {
+        return this.nodes * SearchResult.NANOS_PER_SECOND / Math.max(1, this.nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "depth " + this.depth + " score " + this.score + " nodes " + this.nodes
+            + " nps " + this.getNodesPerSecond()
+            + " move " + (this.hasMove() ? Move.toString(this.move) : "none");
+    }
+
+}
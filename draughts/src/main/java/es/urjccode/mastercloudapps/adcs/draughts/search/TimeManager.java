@@ -0,0 +1,62 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+public class TimeManager {
+
+    private static final long NANOS_PER_MILLI = 1000000;
+    private static final long MARGIN_MILLIS = 10;
+    private static final int EXPECTED_MOVES = 50;
+    private static final int MIN_MOVES_TO_GO = 10;
+    private static final int HARD_FACTOR = 4;
+    private static final int MAX_SHARE = 4;
+    private static final int STABLE_ITERATIONS = 3;
+
+    private final long softNanos;
+    private final long hardNanos;
+    private long start;
+
+    public TimeManager(long moveMillis) {
+        assert moveMillis > 0;
+        this.hardNanos = moveMillis * TimeManager.NANOS_PER_MILLI;
+        this.softNanos = this.hardNanos / 2;
+    }
+
+    public TimeManager(long remainingMillis, int moveNumber) {
+        assert remainingMillis >= 0;
+        assert moveNumber >= 0;
+        final long available = Math.max(0, remainingMillis - TimeManager.MARGIN_MILLIS) * TimeManager.NANOS_PER_MILLI;
+        final int movesToGo = Math.max(TimeManager.MIN_MOVES_TO_GO, TimeManager.EXPECTED_MOVES - moveNumber);
+        this.softNanos = available / movesToGo;
+        this.hardNanos = Math.min(this.softNanos * TimeManager.HARD_FACTOR, available / TimeManager.MAX_SHARE);
+    }
+
+    void start() {
+        this.start = System.nanoTime();
+    }
+
+    long getElapsed() {
+        return System.nanoTime() - this.start;
+    }
+
+    boolean isHardExpired() {
+        return this.getElapsed() >= this.hardNanos;
+    }
+
+    boolean isSoftExpired(int stableIterations) {
+        return this.isSoftExpired(this.getElapsed(), stableIterations);
+    }
+
+    boolean isSoftExpired(long elapsed, int stableIterations) {
+        if (stableIterations >= TimeManager.STABLE_ITERATIONS)
+            return elapsed >= this.softNanos / 2;
+        return elapsed >= this.softNanos;
+    }
+
+    public long getSoftNanos() {
+        return this.softNanos;
+    }
+
+    public long getHardNanos() {
+        return this.hardNanos;
+    }
+
+}
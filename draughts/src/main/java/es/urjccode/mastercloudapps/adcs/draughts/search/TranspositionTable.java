@@ -0,0 +1,138 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class TranspositionTable {
+
+    public static final int DEFAULT_MEGABYTES = 16;
+    static final long NONE = 0;
+    static final int LOWER = 1;
+    static final int UPPER = 2;
+    static final int EXACT = 3;
+    static final int NO_MOVE = -1;
+
+    private static final int ENTRY_BYTES = 2 * Long.BYTES;
+    private static final int ENTRY_SHIFT = 4;
+    private static final int SEGMENT_SHIFT = 26;
+    private static final long SEGMENT_MASK = (1L << TranspositionTable.SEGMENT_SHIFT) - 1;
+    private static final long MEGABYTE = 1024 * 1024;
+    private static final int DEPTH_BITS = 8;
+    private static final int BOUND_BITS = 2;
+    private static final int GENERATION_BITS = 6;
+    private static final int MOVE_BITS = 16;
+    private static final int BOUND_SHIFT = TranspositionTable.DEPTH_BITS;
+    private static final int GENERATION_SHIFT = TranspositionTable.BOUND_SHIFT + TranspositionTable.BOUND_BITS;
+    private static final int MOVE_SHIFT = TranspositionTable.GENERATION_SHIFT + TranspositionTable.GENERATION_BITS;
+    private static final int SCORE_SHIFT = TranspositionTable.MOVE_SHIFT + TranspositionTable.MOVE_BITS;
+    private static final long DEPTH_MASK = (1L << TranspositionTable.DEPTH_BITS) - 1;
+    private static final long BOUND_MASK = (1L << TranspositionTable.BOUND_BITS) - 1;
+    private static final long GENERATION_MASK = (1L << TranspositionTable.GENERATION_BITS) - 1;
+    private static final long MOVE_MASK = (1L << TranspositionTable.MOVE_BITS) - 1;
+    private static final int HASHFULL_SAMPLE = 1000;
+
+    private final ByteBuffer[] segments;
+    private final long mask;
+    private int generation;
+
+    public TranspositionTable(int megabytes) {
+        assert megabytes > 0;
+        final long capacity = Long.highestOneBit(megabytes * TranspositionTable.MEGABYTE / TranspositionTable.ENTRY_BYTES);
+        final long segmentCapacity = Math.min(capacity, 1L << TranspositionTable.SEGMENT_SHIFT);
+        this.segments = new ByteBuffer[(int) (capacity / segmentCapacity)];
+        for (int i = 0; i < this.segments.length; i++)
+            this.segments[i] = ByteBuffer.allocateDirect((int) segmentCapacity * TranspositionTable.ENTRY_BYTES)
+                .order(ByteOrder.nativeOrder());
+        this.mask = capacity - 1;
+        this.generation = 0;
+    }
+
+    long probe(long key) {
+        final ByteBuffer segment = this.getSegment(key);
+        final int offset = this.getOffset(key);
+        final long data = segment.getLong(offset + Long.BYTES);
+        if (data == TranspositionTable.NONE || (segment.getLong(offset) ^ data) != key)
+            return TranspositionTable.NONE;
+        return data;
+    }
+
+    void store(long key, int depth, int bound, int score, int moveIndex) {
+        assert 0 <= depth && depth <= TranspositionTable.DEPTH_MASK;
+        assert TranspositionTable.LOWER <= bound && bound <= TranspositionTable.EXACT;
+        assert TranspositionTable.NO_MOVE <= moveIndex && moveIndex < TranspositionTable.MOVE_MASK;
+        final ByteBuffer segment = this.getSegment(key);
+        final int offset = this.getOffset(key);
+        final long stored = segment.getLong(offset + Long.BYTES);
+        int storedMoveIndex = TranspositionTable.NO_MOVE;
+        if (stored != TranspositionTable.NONE) {
+            if ((segment.getLong(offset) ^ stored) == key)
+                storedMoveIndex = TranspositionTable.getMoveIndex(stored);
+            else if (TranspositionTable.getGeneration(stored) == this.generation
+                    && TranspositionTable.getDepth(stored) > depth)
+                return;
+        }
+        final long data = (long) score << TranspositionTable.SCORE_SHIFT
+            | (long) ((moveIndex == TranspositionTable.NO_MOVE ? storedMoveIndex : moveIndex) + 1)
+                << TranspositionTable.MOVE_SHIFT
+            | (long) this.generation << TranspositionTable.GENERATION_SHIFT
+            | (long) bound << TranspositionTable.BOUND_SHIFT
+            | depth;
+        segment.putLong(offset, key ^ data);
+        segment.putLong(offset + Long.BYTES, data);
+    }
+
+    public void newSearch() {
+        this.generation = (int) ((this.generation + 1) & TranspositionTable.GENERATION_MASK);
+    }
+
+    public void clear() {
+        for (ByteBuffer segment : this.segments)
+            for (int offset = 0; offset < segment.capacity(); offset += Long.BYTES)
+                segment.putLong(offset, 0);
+        this.generation = 0;
+    }
+
+    public long getCapacity() {
+        return this.mask + 1;
+    }
+
+    public int getHashfull() {
+        final long sample = Math.min(TranspositionTable.HASHFULL_SAMPLE, this.getCapacity());
+        int used = 0;
+        for (long index = 0; index < sample; index++) {
+            final long data = this.getSegment(index).getLong(this.getOffset(index) + Long.BYTES);
+            if (data != TranspositionTable.NONE && TranspositionTable.getGeneration(data) == this.generation)
+                used++;
+        }
+        return (int) (used * TranspositionTable.HASHFULL_SAMPLE / sample);
+    }
+
+    private ByteBuffer getSegment(long key) {
+        return this.segments[(int) ((key & this.mask) >>> TranspositionTable.SEGMENT_SHIFT)];
+    }
+
+    private int getOffset(long key) {
+        return (int) (key & this.mask & TranspositionTable.SEGMENT_MASK) << TranspositionTable.ENTRY_SHIFT;
+    }
+
+    static int getDepth(long data) {
+        return (int) (data & TranspositionTable.DEPTH_MASK);
+    }
+
+    static int getBound(long data) {
+        return (int) (data >>> TranspositionTable.BOUND_SHIFT & TranspositionTable.BOUND_MASK);
+    }
+
+    static int getGeneration(long data) {
+        return (int) (data >>> TranspositionTable.GENERATION_SHIFT & TranspositionTable.GENERATION_MASK);
+    }
+
+    static int getMoveIndex(long data) {
+        return (int) (data >>> TranspositionTable.MOVE_SHIFT & TranspositionTable.MOVE_MASK) - 1;
+    }
+
+    static int getScore(long data) {
+        return (int) (data >> TranspositionTable.SCORE_SHIFT);
+    }
+
+}
@@ -0,0 +1,116 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Metrics;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveList;
+
+public class YbwSearch {
+
+    private final Game game;
+    private final int parallelism;
+    private final TranspositionTable table;
+    private final LongAdder nodes;
+    private TimeManager timeManager;
+    private volatile boolean canceled;
+    private volatile boolean interruptible;
+
+    public YbwSearch(Game game) {
+        this(game, Runtime.getRuntime().availableProcessors());
+    }
+
+    public YbwSearch(Game game, int parallelism) {
+        this(game, parallelism, null);
+    }
+
+    public YbwSearch(Game game, int parallelism, TranspositionTable table) {
+        assert game != null;
+        assert parallelism > 0;
+        this.game = game;
+        this.parallelism = parallelism;
+        this.table = table;
+        this.nodes = new LongAdder();
+    }
+
+    public SearchResult search(int depth) {
+        assert 0 < depth && depth <= Search.MAX_DEPTH;
+        return this.search(depth, null);
+    }
+
+    public SearchResult search(TimeManager timeManager) {
+        assert timeManager != null;
+        return this.search(Search.MAX_DEPTH, timeManager);
+    }
+
+    public void cancel() {
+        this.canceled = true;
+    }
+
+    public void reset() {
+        this.canceled = false;
+    }
+
+    private SearchResult search(int maxDepth, TimeManager timeManager) {
+        final long start = System.nanoTime();
+        this.nodes.reset();
+        this.timeManager = timeManager;
+        if (timeManager != null)
+            timeManager.start();
+        this.interruptible = false;
+        if (this.table != null)
+            this.table.newSearch();
+        final MoveList moves = new MoveList();
+        this.game.getMoves(moves);
+        long bestMove = Move.NONE;
+        int bestScore = -Search.WIN;
+        int depth = 0;
+        int stableIterations = 0;
+        final ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            for (int next = 1; next <= maxDepth && !moves.isEmpty(); next++) {
+                final YbwTask task = new YbwTask(this, this.game.fork(), next, -Search.INFINITY, Search.INFINITY,
+                    bestMove);
+                final int score = pool.invoke(task);
+                if (task.isAborted())
+                    break;
+                stableIterations = task.getBestMove() == bestMove ? stableIterations + 1 : 0;
+                bestMove = task.getBestMove();
+                bestScore = score;
+                depth = next;
+                this.interruptible = true;
+                if (this.isStopped())
+                    break;
+                if (timeManager != null && (moves.size() == 1 || Math.abs(score) > Search.WIN - Search.MAX_PLY
+                        || timeManager.isSoftExpired(stableIterations)))
+                    break;
+            }
+        } finally {
+            pool.shutdown();
+        }
+        final long nanos = System.nanoTime() - start;
+        Metrics.recordSearch(this.nodes.sum(), nanos);
+        return new SearchResult(bestMove, bestScore, depth, this.nodes.sum(), nanos);
+    }
+
+    boolean isStopped() {
+        if (!this.interruptible)
+            return false;
+        return this.canceled || this.timeManager != null && this.timeManager.isHardExpired();
+    }
+
+    void addNodes(long nodes) {
+        this.nodes.add(nodes);
+    }
+
+    TranspositionTable getTable() {
+        return this.table;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+}
@@ -0,0 +1,162 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveList;
+
+class YbwTask extends RecursiveTask<Integer> {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int SEQUENTIAL_DEPTH = 4;
+
+    private final YbwSearch context;
+    private final Game game;
+    private final int depth;
+    private final int ply;
+    private final int alpha;
+    private final int beta;
+    private final YbwTask parent;
+    private final long firstMove;
+    private volatile boolean cutoff;
+    private boolean aborted;
+    private long bestMove;
+
+    YbwTask(YbwSearch context, Game game, int depth, int alpha, int beta, long firstMove) {
+        this(context, game, depth, 0, alpha, beta, null, firstMove);
+    }
+
+    private YbwTask(YbwSearch context, Game game, int depth, int ply, int alpha, int beta, YbwTask parent,
+            long firstMove) {
+        this.context = context;
+        this.game = game;
+        this.depth = depth;
+        this.ply = ply;
+        this.alpha = alpha;
+        this.beta = beta;
+        this.parent = parent;
+        this.firstMove = firstMove;
+        this.bestMove = Move.NONE;
+    }
+
+    @Override
+    protected Integer compute() {
+        final int score = this.search();
+        if (!this.aborted && this.parent != null && score <= this.alpha)
+            this.parent.cutoff = true;
+        return score;
+    }
+
+    private int search() {
+        if (this.isStopped()) {
+            this.aborted = true;
+            return 0;
+        }
+        if (this.parent != null && this.depth <= YbwTask.SEQUENTIAL_DEPTH)
+            return this.searchSequentially();
+        if (this.parent != null)
+            this.context.addNodes(1);
+        final TranspositionTable table = this.context.getTable();
+        final long key = this.game.getKey();
+        int tableIndex = TranspositionTable.NO_MOVE;
+        if (table != null && this.parent != null) {
+            final long data = table.probe(key);
+            if (data != TranspositionTable.NONE) {
+                final int score = Search.fromTable(TranspositionTable.getScore(data), this.ply);
+                final int bound = TranspositionTable.getBound(data);
+                if (TranspositionTable.getDepth(data) >= this.depth && (bound == TranspositionTable.EXACT
+                        || bound == TranspositionTable.LOWER && score >= this.beta
+                        || bound == TranspositionTable.UPPER && score <= this.alpha))
+                    return score;
+                tableIndex = TranspositionTable.getMoveIndex(data);
+            }
+        }
+        final MoveList moves = new MoveList();
+        this.game.getMoves(moves);
+        if (moves.isEmpty())
+            return -Search.WIN + this.ply;
+        if (this.parent == null)
+            tableIndex = moves.indexOf(this.firstMove);
+        if (tableIndex >= moves.size())
+            tableIndex = TranspositionTable.NO_MOVE;
+        if (tableIndex > 0)
+            moves.swap(0, tableIndex);
+        this.game.make(moves.get(0));
+        final YbwTask eldest = new YbwTask(this.context, this.game, this.depth - 1, this.ply + 1,
+            -this.beta, -this.alpha, this, Move.NONE);
+        int bestScore = -eldest.compute();
+        this.game.unmake();
+        if (eldest.aborted) {
+            this.aborted = true;
+            return 0;
+        }
+        int bestIndex = 0;
+        if (bestScore < this.beta) {
+            final int alpha = Math.max(this.alpha, bestScore);
+            final List<YbwTask> tasks = new ArrayList<YbwTask>();
+            for (int i = 1; i < moves.size(); i++) {
+                final Game child = this.game.fork();
+                child.make(moves.get(i));
+                tasks.add(new YbwTask(this.context, child, this.depth - 1, this.ply + 1,
+                    -this.beta, -alpha, this, Move.NONE));
+            }
+            RecursiveTask.invokeAll(tasks);
+            boolean aborted = false;
+            for (int i = 0; i < tasks.size(); i++) {
+                final YbwTask task = tasks.get(i);
+                final int score = -task.join();
+                if (task.aborted)
+                    aborted = true;
+                else if (score > bestScore) {
+                    bestScore = score;
+                    bestIndex = i + 1;
+                }
+            }
+            if (aborted && bestScore < this.beta) {
+                this.aborted = true;
+                return 0;
+            }
+        }
+        this.bestMove = moves.get(bestIndex);
+        if (table != null && this.parent != null)
+            table.store(key, this.depth, Search.getBound(bestScore, this.alpha, this.beta),
+                Search.toTable(bestScore, this.ply),
+                bestScore > this.alpha ? Search.getGeneratedIndex(bestIndex, tableIndex) : TranspositionTable.NO_MOVE);
+        return bestScore;
+    }
+
+    private int searchSequentially() {
+        final Search search = new Search(this.game, this.context.getTable()) {
+            @Override
+            boolean isStopped() {
+                return YbwTask.this.isStopped();
+            }
+        };
+        final int score = search.search(this.depth, this.ply, this.alpha, this.beta);
+        this.context.addNodes(search.getNodes());
+        this.aborted = search.isAborted();
+        return score;
+    }
+
+    private boolean isStopped() {
+        if (this.context.isStopped())
+            return true;
+        for (YbwTask task = this.parent; task != null; task = task.parent)
+            if (task.cutoff)
+                return true;
+        return false;
+    }
+
+    boolean isAborted() {
+        return this.aborted;
+    }
+
+    long getBestMove() {
+        return this.bestMove;
+    }
+
+}
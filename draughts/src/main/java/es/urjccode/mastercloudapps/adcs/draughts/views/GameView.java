@@ -6,6 +6,15 @@ import es.urjccode.mastercloudapps.adcs.draughts.models.Piece;
 
 class GameView extends SubView {
 
+    private static final String[] NUMBERS = GameView.getNumbers();
+
+    private static String[] getNumbers() {
+        final String[] numbers = new String[Coordinate.getDimension()];
+        for (int i = 0; i < numbers.length; i++)
+            numbers[i] = String.valueOf(i + 1);
+        return numbers;
+    }
+
     void write(InteractorController controller) {
         assert controller != null;
         final int DIMENSION = controller.getDimension();
@@ -18,20 +27,20 @@ class GameView extends SubView {
     private void writeNumbersLine(final int DIMENSION) {
         this.console.write(" ");
         for (int i = 0; i < DIMENSION; i++)
-            this.console.write((i + 1) + "");
+            this.console.write(GameView.NUMBERS[i]);
         this.console.writeln();
     }
 
     private void writePiecesRow(final int row, InteractorController controller) {
-        this.console.write((row + 1) + "");
+        this.console.write(GameView.NUMBERS[row]);
         for (int j = 0; j < controller.getDimension(); j++) {
-            Piece piece = controller.getPiece(new Coordinate(row, j));
+            Piece piece = controller.getPiece(Coordinate.getInstance(row, j));
             if (piece == null)
                 this.console.write(" ");
             else 
                 this.console.write(piece.getCode());
         }
-        this.console.writeln((row + 1) + "");
+        this.console.writeln(GameView.NUMBERS[row]);
     }
 
 }
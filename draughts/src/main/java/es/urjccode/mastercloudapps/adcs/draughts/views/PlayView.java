@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.regex.Pattern;
 
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.PlayController;
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Phase;
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Tracer;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
 import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
@@ -32,14 +34,22 @@ class PlayView extends SubView {
             this.string = this.read(playController.getColor());
             if (this.isCanceledFormat())
                 playController.cancel();
-            else if (!this.isMoveFormat()) {
-                error = Error.BAD_FORMAT;
-                this.writeError();
-            } else {
-                error = playController.move(this.getCoordinates());
-                new GameView().write(playController);
-                if (error == null && playController.isBlocked())
-                    this.writeLost();
+            else {
+                long start = Tracer.start();
+                final Coordinate[] coordinates = this.isMoveFormat() ? this.getCoordinates() : null;
+                Tracer.stop(Phase.PARSE, start);
+                if (coordinates == null) {
+                    error = Error.BAD_FORMAT;
+                    this.writeError();
+                } else {
+                    error = playController.move(coordinates);
+                    start = Tracer.start();
+                    new GameView().write(playController);
+                    Tracer.stop(Phase.RENDER, start);
+                    if (error == null && playController.isBlocked())
+                        this.writeLost();
+                }
+                this.writeTrace(error);
             }
         } while (error != null);
     }
@@ -77,6 +87,11 @@ class PlayView extends SubView {
         return coordinates;
     }
 
+    private void writeTrace(Error error) {
+        if (Tracer.isEnabled())
+            this.console.writeln(Tracer.endMove(error));
+    }
+
     private void writeLost() {
         this.console.writeln(LOST_MESSAGE);
     }
@@ -1,6 +1,7 @@
 package es.urjccode.mastercloudapps.adcs.draughts.views;
 
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.ResumeController;
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Tracer;
 import es.urjccode.mastercloudapps.adcs.draughts.utils.YesNoDialog;
 
 class ResumeView extends SubView {
@@ -16,10 +17,18 @@ class ResumeView extends SubView {
 
     void interact(ResumeController resumeController) {
         assert resumeController != null;
+        this.writeTraceSummary();
         if (this.yesNoDialog.read(ResumeView.MESSAGE))
             resumeController.reset();
         else
             resumeController.next();
     }
 
+    private void writeTraceSummary() {
+        if (!Tracer.isEnabled())
+            return;
+        this.console.write(Tracer.getSummary());
+        Tracer.reset();
+    }
+
 }
@@ -4,13 +4,21 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 import es.urjccode.mastercloudapps.adcs.draughts.controllers.AllControllerTest;
+import es.urjccode.mastercloudapps.adcs.draughts.events.AllEventsTest;
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.AllMetricsTest;
 import es.urjccode.mastercloudapps.adcs.draughts.models.AllModelTest;
+import es.urjccode.mastercloudapps.adcs.draughts.perft.AllPerftTest;
+import es.urjccode.mastercloudapps.adcs.draughts.search.AllSearchTest;
 import es.urjccode.mastercloudapps.adcs.draughts.views.AllViewTest;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ 
     AllModelTest.class, 
     AllControllerTest.class, 
-    AllViewTest.class } )
+    AllViewTest.class,
+    AllPerftTest.class,
+    AllSearchTest.class,
+    AllMetricsTest.class,
+    AllEventsTest.class } )
 public final class AllTest {
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package es.urjccode.mastercloudapps.adcs.draughts.events;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ 
+    EventsTest.class } )
+public final class AllEventsTest {
+}
@@ -0,0 +1,140 @@
+package es.urjccode.mastercloudapps.adcs.draughts.events;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.PlayController;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+import es.urjccode.mastercloudapps.adcs.draughts.models.State;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class EventsTest {
+
+    private static final String[] NAMES = { ValidationEvent.NAME, MoveEvent.NAME, PromotionEvent.NAME,
+        BlockedCheckEvent.NAME, GameEndEvent.NAME };
+
+    private Recording recording;
+    private Path path;
+
+    @Before
+    public void before() throws IOException {
+        this.recording = new Recording();
+        for (String name : EventsTest.NAMES)
+            this.recording.enable(name);
+        this.path = Files.createTempFile("draughts", ".jfr");
+        this.recording.start();
+    }
+
+    @After
+    public void after() throws IOException {
+        this.recording.close();
+        Files.deleteIfExists(this.path);
+    }
+
+    private List<RecordedEvent> getEvents(String name) throws IOException {
+        this.recording.stop();
+        this.recording.dump(this.path);
+        final List<RecordedEvent> events = new ArrayList<RecordedEvent>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(this.path))
+            if (event.getEventType().getName().equals(name))
+                events.add(event);
+        return events;
+    }
+
+    private PlayController getPlayController(Game game) {
+        final State state = new State();
+        state.next();
+        return new PlayController(game, state);
+    }
+
+    @Test
+    public void testGivenIncorrectMoveWhenMoveThenValidationEventWithError() throws IOException {
+        new Game().move(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 0));
+        final List<RecordedEvent> events = this.getEvents(ValidationEvent.NAME);
+        assertEquals(1, events.size());
+        assertEquals("NOT_DIAGONAL", events.get(0).getString("error"));
+        assertEquals(2, events.get(0).getInt("coordinates"));
+        assertEquals(0, events.get(0).getInt("captures"));
+    }
+
+    @Test
+    public void testGivenCapturesWhenMoveThenValidationAndMoveEventsWithCaptures() throws IOException {
+        new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ").build().move(
+                Coordinate.getInstance(5, 0), Coordinate.getInstance(3, 2), Coordinate.getInstance(1, 4));
+        final List<RecordedEvent> events = this.getEvents(MoveEvent.NAME);
+        assertEquals(1, events.size());
+        assertEquals("61.43.25", events.get(0).getString("move"));
+        assertEquals(2, events.get(0).getInt("captures"));
+        assertFalse(events.get(0).getBoolean("promotion"));
+    }
+
+    @Test
+    public void testGivenBlockedOppositeWhenMoveThenPromotionAndGameEndEvents() throws IOException {
+        final Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "b       ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "n       ").build();
+        this.getPlayController(game).move(Coordinate.getInstance(1, 0), Coordinate.getInstance(0, 1));
+        this.recording.stop();
+        this.recording.dump(this.path);
+        int promotions = 0;
+        int blockedChecks = 0;
+        int gameEnds = 0;
+        for (RecordedEvent event : RecordingFile.readAllEvents(this.path)) {
+            final String name = event.getEventType().getName();
+            if (name.equals(PromotionEvent.NAME)) {
+                promotions++;
+                assertEquals("WHITE", event.getString("color"));
+            } else if (name.equals(BlockedCheckEvent.NAME)) {
+                blockedChecks++;
+                assertTrue(event.getBoolean("blocked"));
+            } else if (name.equals(GameEndEvent.NAME)) {
+                gameEnds++;
+                assertEquals("BLACK", event.getString("loser"));
+                assertEquals(GameEndEvent.BLOCKED, event.getString("reason"));
+            }
+        }
+        assertEquals(1, promotions);
+        assertEquals(1, blockedChecks);
+        assertEquals(1, gameEnds);
+    }
+
+    @Test
+    public void testGivenPlayControllerWhenCancelThenGameEndEvent() throws IOException {
+        this.getPlayController(new Game()).cancel();
+        final List<RecordedEvent> events = this.getEvents(GameEndEvent.NAME);
+        assertEquals(1, events.size());
+        assertEquals("WHITE", events.get(0).getString("loser"));
+        assertEquals(GameEndEvent.CANCELED, events.get(0).getString("reason"));
+    }
+
+}
@@ -0,0 +1,12 @@
+package es.urjccode.mastercloudapps.adcs.draughts.metrics;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ 
+    HistogramTest.class,
+    MetricsTest.class,
+    TracerTest.class } )
+public final class AllMetricsTest {
+}
@@ -0,0 +1,154 @@
+package es.urjccode.mastercloudapps.adcs.draughts.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.utils.AllocationMeter;
+
+public class HistogramTest {
+
+    private static final double RELATIVE_ERROR = 1.0 / 32;
+    private static final int THREADS = 4;
+    private static final int VALUES_PER_THREAD = 100000;
+
+    @Test
+    public void testGivenEmptyHistogramWhenGetThenZero() {
+        final Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99), 0);
+        assertEquals(0, histogram.getMean(), 0);
+    }
+
+    @Test
+    public void testGivenSmallValuesWhenGetValueAtPercentileThenExact() {
+        final Histogram histogram = new Histogram();
+        for (int value = 1; value <= 10; value++)
+            histogram.record(value);
+        assertEquals(10, histogram.getCount());
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getMin());
+        assertEquals(10, histogram.getMax());
+        assertEquals(55, histogram.getSum());
+        assertEquals(5.5, histogram.getMean(), 0);
+    }
+
+    @Test
+    public void testGivenValuesWhenGetIndexThenWithinBucketBounds() {
+        for (long value = 0; value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            final int index = Histogram.getIndex(value);
+            assertTrue(Histogram.getLowestValue(index) <= value);
+            assertTrue(value <= Histogram.getHighestValue(index));
+            assertTrue(Histogram.getHighestValue(index) - value <= value * HistogramTest.RELATIVE_ERROR);
+        }
+        assertEquals(Long.MAX_VALUE, Histogram.getHighestValue(Histogram.getIndex(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testGivenUniformNanosWhenGetValueAtPercentileThenWithinRelativeError() {
+        final Histogram histogram = new Histogram();
+        for (long value = 1; value <= 1000000; value++)
+            histogram.record(value * 1000);
+        HistogramTest.assertClose(500000000, histogram.getValueAtPercentile(50));
+        HistogramTest.assertClose(990000000, histogram.getValueAtPercentile(99));
+        HistogramTest.assertClose(999000000, histogram.getValueAtPercentile(99.9));
+        assertEquals(1000000000, histogram.getValueAtPercentile(100));
+        assertEquals(1000000000, histogram.getMax());
+    }
+
+    @Test
+    public void testGivenTailWhenGetValueAtPercentileThenTailNotHidden() {
+        final Histogram histogram = new Histogram();
+        for (int i = 0; i < 990; i++)
+            histogram.record(1000);
+        for (int i = 0; i < 10; i++)
+            histogram.record(1000000);
+        HistogramTest.assertClose(1000, histogram.getValueAtPercentile(50));
+        HistogramTest.assertClose(1000, histogram.getValueAtPercentile(99));
+        HistogramTest.assertClose(1000000, histogram.getValueAtPercentile(99.9));
+    }
+
+    @Test
+    public void testGivenTwoHistogramsWhenAddThenMerged() {
+        final Histogram histogram = new Histogram();
+        final Histogram other = new Histogram();
+        histogram.record(10);
+        other.record(5);
+        other.record(20);
+        histogram.add(other);
+        assertEquals(3, histogram.getCount());
+        assertEquals(35, histogram.getSum());
+        assertEquals(5, histogram.getMin());
+        assertEquals(20, histogram.getMax());
+        assertEquals(2, other.getCount());
+    }
+
+    @Test
+    public void testGivenHistogramWhenResetThenEmpty() {
+        final Histogram histogram = new Histogram();
+        histogram.record(100);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getSum());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void testGivenThreadsWhenRecordConcurrentlyThenNoValueLost() throws InterruptedException {
+        final Histogram histogram = new Histogram();
+        final Thread[] threads = new Thread[HistogramTest.THREADS];
+        for (int i = 0; i < threads.length; i++) {
+            final int thread = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int value = 0; value < HistogramTest.VALUES_PER_THREAD; value++)
+                        histogram.record(thread * HistogramTest.VALUES_PER_THREAD + value);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        final long values = (long) HistogramTest.THREADS * HistogramTest.VALUES_PER_THREAD;
+        assertEquals(values, histogram.getCount());
+        assertEquals(values * (values - 1) / 2, histogram.getSum());
+        assertEquals(0, histogram.getMin());
+        assertEquals(values - 1, histogram.getMax());
+    }
+
+    @Test
+    public void testGivenHistogramWhenRecordThenNoAllocation() {
+        final AllocationMeter allocationMeter = new AllocationMeter();
+        assumeTrue(allocationMeter.isSupported());
+        final Histogram histogram = new Histogram();
+        final long bytes = allocationMeter.getBytesPerOperation(new Runnable() {
+            private long value;
+
+            @Override
+            public void run() {
+                histogram.record(this.value++);
+            }
+        });
+        assertEquals(0, bytes);
+    }
+
+    @Test
+    public void testGivenMetricsWhenFormatThenMoveQuantiles() {
+        final String text = PrometheusFormat.format();
+        assertTrue(text.contains("draughts_move_seconds{quantile=\"0.99\"} "));
+        assertTrue(text.contains("draughts_move_request_seconds{quantile=\"0.999\"} "));
+        assertTrue(text.contains("draughts_move_request_seconds_count "));
+    }
+
+    private static void assertClose(long expected, long actual) {
+        assertTrue(actual + " not within error of " + expected,
+            Math.abs(actual - expected) <= expected * HistogramTest.RELATIVE_ERROR);
+    }
+
+}
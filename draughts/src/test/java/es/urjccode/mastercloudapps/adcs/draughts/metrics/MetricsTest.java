@@ -0,0 +1,110 @@
+package es.urjccode.mastercloudapps.adcs.draughts.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.ResumeController;
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.StartController;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.State;
+
+public class MetricsTest {
+
+    @Test
+    public void testGivenGameWhenCorrectMoveThenAttemptedAndAccepted() {
+        final long attempted = Metrics.getMovesAttempted();
+        final long accepted = Metrics.getMovesAccepted();
+        final long count = Metrics.getMoveCount();
+        assertEquals(null, new Game().move(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1)));
+        assertEquals(attempted + 1, Metrics.getMovesAttempted());
+        assertEquals(accepted + 1, Metrics.getMovesAccepted());
+        assertEquals(count + 1, Metrics.getMoveCount());
+    }
+
+    @Test
+    public void testGivenGameWhenIncorrectMoveThenRejectionByError() {
+        final long accepted = Metrics.getMovesAccepted();
+        final long rejections = Metrics.getRejections(Error.NOT_DIAGONAL);
+        assertEquals(Error.NOT_DIAGONAL, new Game().move(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 0)));
+        assertEquals(accepted, Metrics.getMovesAccepted());
+        assertEquals(rejections + 1, Metrics.getRejections(Error.NOT_DIAGONAL));
+    }
+
+    @Test
+    public void testGivenGameWhenIsBlockedThenBlockedCheck() {
+        final long blockedChecks = Metrics.getBlockedChecks();
+        new Game().isBlocked();
+        assertEquals(blockedChecks + 1, Metrics.getBlockedChecks());
+    }
+
+    @Test
+    public void testGivenControllersWhenStartAndResetThenGamesStartedAndFinished() {
+        final long started = Metrics.getGamesStarted();
+        final long finished = Metrics.getGamesFinished();
+        final Game game = new Game();
+        final State state = new State();
+        new StartController(game, state).start();
+        state.next();
+        new ResumeController(game, state).reset();
+        assertEquals(started + 1, Metrics.getGamesStarted());
+        assertEquals(finished + 1, Metrics.getGamesFinished());
+    }
+
+    @Test
+    public void testGivenMetricsWhenFormatThenPrometheusText() {
+        final String text = PrometheusFormat.format();
+        assertTrue(text.contains("# TYPE draughts_moves_attempted_total counter\n"));
+        assertTrue(text.contains("draughts_moves_attempted_total " + Metrics.getMovesAttempted() + "\n"));
+        assertTrue(text.contains("draughts_move_rejections_total{error=\"NOT_DIAGONAL\"} "));
+        assertTrue(text.contains("draughts_move_seconds_count "));
+    }
+
+    @Test
+    public void testGivenRegisteredMetricsWhenGetAttributeThenValue() throws JMException {
+        Metrics.register();
+        Metrics.register();
+        final Object attempted = ManagementFactory.getPlatformMBeanServer()
+            .getAttribute(new ObjectName(Metrics.OBJECT_NAME), "MovesAttempted");
+        assertTrue((Long) attempted <= Metrics.getMovesAttempted());
+    }
+
+    @Test
+    public void testGivenServerWhenGetMetricsThenPrometheusText() throws IOException {
+        final MetricsServer metricsServer = new MetricsServer(0);
+        metricsServer.start();
+        try {
+            final URL url = new URL("http://localhost:" + metricsServer.getPort() + MetricsServer.PATH);
+            final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            assertEquals(200, connection.getResponseCode());
+            assertTrue(MetricsTest.read(connection.getInputStream()).contains("draughts_games_started_total "));
+        } finally {
+            metricsServer.stop();
+        }
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1024];
+        int length;
+        while ((length = inputStream.read(buffer)) != -1)
+            outputStream.write(buffer, 0, length);
+        inputStream.close();
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+}
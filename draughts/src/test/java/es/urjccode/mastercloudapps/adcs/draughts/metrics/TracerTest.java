@@ -0,0 +1,126 @@
+package es.urjccode.mastercloudapps.adcs.draughts.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Error;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+
+public class TracerTest {
+
+    @After
+    public void after() {
+        Tracer.setEnabled(false);
+    }
+
+    @Test
+    public void testGivenDisabledTracerWhenMoveThenNothingRecorded() {
+        Tracer.setEnabled(false);
+        assertEquals(Tracer.DISABLED, Tracer.start());
+        new Game().move(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1));
+        Tracer.stop(Phase.PARSE, Tracer.DISABLED);
+        assertEquals(0, Tracer.getTotalNanos(Phase.PARSE));
+        assertEquals(0, Tracer.getMoves());
+    }
+
+    @Test
+    public void testGivenEnabledTracerWhenMoveThenPhasesRecorded() {
+        Tracer.setEnabled(true);
+        final Game game = new Game();
+        game.move(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1));
+        game.isBlocked();
+        final String line = Tracer.endMove(null);
+        assertTrue(line, line.startsWith("trace move=1 error=NONE parse_ns=0 validate_ns="));
+        assertTrue(line, line.contains(" apply_ns=") && line.contains(" status_ns=") && line.contains(" total_ns="));
+        assertEquals(1, Tracer.getMoves());
+        assertTrue(Tracer.getTotalNanos(Phase.VALIDATE) > 0);
+        assertTrue(Tracer.getTotalNanos(Phase.APPLY) > 0);
+        assertTrue(Tracer.getTotalNanos(Phase.STATUS) > 0);
+    }
+
+    @Test
+    public void testGivenEnabledTracerWhenIncorrectMoveThenErrorAndNoApply() {
+        Tracer.setEnabled(true);
+        new Game().move(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 0));
+        final String line = Tracer.endMove(Error.NOT_DIAGONAL);
+        assertTrue(line, line.contains(" error=NOT_DIAGONAL ") && line.contains(" apply_ns=0 "));
+    }
+
+    @Test
+    public void testGivenTracedMovesWhenGetSummaryThenRowPerPhase() {
+        Tracer.setEnabled(true);
+        final long start = Tracer.start();
+        Tracer.stop(Phase.RENDER, start);
+        Tracer.endMove(null);
+        Tracer.endMove(null);
+        final String[] rows = Tracer.getSummary().split(System.lineSeparator());
+        assertEquals(Phase.values().length + 1, rows.length);
+        assertTrue(rows[0].startsWith("phase"));
+        assertTrue(rows[5].startsWith("render"));
+        assertTrue(rows[5].contains(" 2 "));
+    }
+
+    @Test
+    public void testGivenProbeStartedWhileDisabledWhenEnabledBeforeStopThenNothingRecorded() {
+        Tracer.setEnabled(false);
+        final long start = Tracer.start();
+        Tracer.setEnabled(true);
+        Tracer.stop(Phase.PARSE, start);
+        final String line = Tracer.endMove(null);
+        assertTrue(line, line.contains(" parse_ns=0 "));
+        assertEquals(0, Tracer.getTotalNanos(Phase.PARSE));
+    }
+
+    @Test
+    public void testGivenPhaseOnOtherThreadWhenEndMoveThenDrained() throws InterruptedException {
+        Tracer.setEnabled(true);
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                new Game().isBlocked();
+            }
+        });
+        thread.start();
+        thread.join();
+        Tracer.endMove(null);
+        assertTrue(Tracer.getTotalNanos(Phase.STATUS) > 0);
+        final String line = Tracer.endMove(null);
+        assertTrue(line, line.contains(" status_ns=0 "));
+    }
+
+    @Test
+    public void testGivenConcurrentTracedMovesWhenEndMoveThenNoMoveLost() throws InterruptedException {
+        Tracer.setEnabled(true);
+        final int moves = 1000;
+        final Set<String> lines = Collections.synchronizedSet(new HashSet<String>());
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    final Game game = new Game();
+                    for (int j = 0; j < moves; j++) {
+                        game.move(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1));
+                        game.unmake();
+                        lines.add(Tracer.endMove(null).split(" ")[1]);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        assertEquals(threads.length * moves, Tracer.getMoves());
+        assertEquals(threads.length * moves, lines.size());
+        assertTrue(Tracer.getTotalNanos(Phase.APPLY) > 0);
+    }
+
+}
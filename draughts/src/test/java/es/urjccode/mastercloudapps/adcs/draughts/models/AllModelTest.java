@@ -6,6 +6,8 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ 
     DirectionTest.class,
+    GeometryTest.class,
+    MoveTest.class,
     CoordinateTest.class, 
     PieceTest.class,
     GameBuilderTest.class,
@@ -14,6 +16,14 @@ import org.junit.runners.Suite;
     CorrectMovesPawnGameTest.class,
     IncorrectMovesDraughtGameTest.class,
     CorrectMovesDraughtGameTest.class,
-    IsBlockedGameTest.class } )
+    IsBlockedGameTest.class,
+    GetMovesGameTest.class,
+    UnmakeGameTest.class,
+    ValidateGameTest.class,
+    KeyGameTest.class,
+    GameStatusTest.class,
+    ForkGameTest.class,
+    AllocationGameTest.class,
+    DifferentialFuzzTest.class } )
 public final class AllModelTest {
 }
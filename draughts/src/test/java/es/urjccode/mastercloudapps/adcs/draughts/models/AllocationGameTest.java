@@ -0,0 +1,117 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.utils.AllocationMeter;
+
+public class AllocationGameTest extends GameTest {
+
+    private static final long MOVE_BUDGET = 0;
+    private static final long IS_BLOCKED_BUDGET = 0;
+    private static final long GET_PIECE_BUDGET = 0;
+    private static final long FORK_AND_MOVE_BUDGET = 1024;
+
+    private AllocationMeter allocationMeter;
+
+    @Before
+    public void before() {
+        this.allocationMeter = new AllocationMeter();
+        assumeTrue(this.allocationMeter.isSupported());
+    }
+
+    private void assertBudget(long budget, Runnable operation) {
+        final long bytes = this.allocationMeter.getBytesPerOperation(operation);
+        assertTrue(bytes + " bytes per operation over a budget of " + budget, bytes <= budget);
+    }
+
+    @Test
+    public void testGivenGameWhenMoveThenWithinBudget() {
+        final Game game = new Game();
+        final Coordinate[] coordinates = { Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1) };
+        this.assertBudget(AllocationGameTest.MOVE_BUDGET, new Runnable() {
+            @Override
+            public void run() {
+                game.move(coordinates);
+                game.unmake();
+            }
+        });
+    }
+
+    @Test
+    public void testGivenGameWhenMoveWithEatingsThenWithinBudget() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ");
+        final Game game = this.game;
+        final Coordinate[] coordinates = {
+            Coordinate.getInstance(5, 0), Coordinate.getInstance(3, 2), Coordinate.getInstance(1, 4) };
+        this.assertBudget(AllocationGameTest.MOVE_BUDGET, new Runnable() {
+            @Override
+            public void run() {
+                game.move(coordinates);
+                game.unmake();
+            }
+        });
+    }
+
+    @Test
+    public void testGivenGameWhenIncorrectMoveThenWithinBudget() {
+        final Game game = new Game();
+        final Coordinate[] coordinates = { Coordinate.getInstance(5, 0), Coordinate.getInstance(6, 1) };
+        this.assertBudget(AllocationGameTest.MOVE_BUDGET, new Runnable() {
+            @Override
+            public void run() {
+                game.move(coordinates);
+            }
+        });
+    }
+
+    @Test
+    public void testGivenGameWhenIsBlockedThenWithinBudget() {
+        final Game game = new Game();
+        this.assertBudget(AllocationGameTest.IS_BLOCKED_BUDGET, new Runnable() {
+            @Override
+            public void run() {
+                game.isBlocked();
+            }
+        });
+    }
+
+    @Test
+    public void testGivenGameWhenForkAndMoveThenWithinBudget() {
+        final Game game = new Game();
+        final long move = Move.getInstance(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1));
+        this.assertBudget(AllocationGameTest.FORK_AND_MOVE_BUDGET, new Runnable() {
+            @Override
+            public void run() {
+                game.fork().make(move);
+            }
+        });
+    }
+
+    @Test
+    public void testGivenBoardWhenGetPieceThenWithinBudget() {
+        final Board board = new Board();
+        board.put(Coordinate.getInstance(5, 0), Pawn.getInstance(Color.WHITE));
+        board.put(Coordinate.getInstance(2, 1), Draught.getInstance(Color.BLACK));
+        this.assertBudget(AllocationGameTest.GET_PIECE_BUDGET, new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < Coordinate.getDimension(); i++)
+                    for (int j = 0; j < Coordinate.getDimension(); j++)
+                        board.getPiece(Coordinate.getInstance(i, j));
+            }
+        });
+    }
+
+}
@@ -2,6 +2,8 @@ package es.urjccode.mastercloudapps.adcs.draughts.models;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -135,4 +137,18 @@ public class CoordinateTest {
         );
         assertEquals(coordinates, origin.getBetweenDiagonalCoordinates(target));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGivenRowAndColumnWhenGetInstanceThenSameInstance() {
+        assertSame(Coordinate.getInstance(3, 4), Coordinate.getInstance(3, 4));
+        assertSame(Coordinate.getInstance(3, 4), Coordinate.getInstance("45"));
+        assertEquals(new Coordinate(3, 4), Coordinate.getInstance(3, 4));
+    }
+
+    @Test
+    public void testGivenOutOfBoardRowAndColumnWhenGetInstanceThenNull() {
+        assertNull(Coordinate.getInstance(-1, 4));
+        assertNull(Coordinate.getInstance(3, 8));
+    }
+
+}
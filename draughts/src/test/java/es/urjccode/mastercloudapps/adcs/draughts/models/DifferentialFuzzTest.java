@@ -0,0 +1,65 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class DifferentialFuzzTest {
+
+    private static final String GAMES = "draughts.fuzz.games";
+    private static final String SEED = "draughts.fuzz.seed";
+    private static final int MAX_PLIES = 200;
+
+    @Test
+    public void testGivenRandomGamesWhenCompareWithReferenceThenNoMismatch() {
+        final DifferentialFuzzer fuzzer = new DifferentialFuzzer(Long.getLong(DifferentialFuzzTest.SEED, 1),
+            DifferentialFuzzTest.MAX_PLIES);
+        final String mismatch = fuzzer.run(Integer.getInteger(DifferentialFuzzTest.GAMES, 300));
+        assertNull(mismatch, mismatch);
+        assertTrue(fuzzer.getPlies() > 0);
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenMoveThenSameAsReference() {
+        final String[] rows = {
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "n n n   ",
+            " n n    ",
+            "b b     " };
+        final ReferenceGame reference = new ReferenceGame(Color.WHITE, rows);
+        assertTrue(reference.isBlocked());
+        assertNull(new DifferentialFuzzer(0, 1).compare(new GameBuilder().color(Color.WHITE).rows(rows).build(),
+            reference, Move.getInstance(Coordinate.getInstance(7, 0), Coordinate.getInstance(6, 1))));
+    }
+
+    @Test
+    public void testGivenMismatchWhenReportThenMinimizedReproducer() {
+        final DifferentialFuzzer fuzzer = new DifferentialFuzzer(0, 1) {
+            @Override
+            String compare(Game game, ReferenceGame reference, long move) {
+                if (game.getPiece(Coordinate.getInstance(2, 1)) != null)
+                    return "injected";
+                return null;
+            }
+        };
+        final Game game = new Game();
+        final long move = Move.getInstance(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1));
+        final String report = fuzzer.report(game.getTurnColor(), DifferentialFuzzer.getRows(game), move, "injected");
+        assertEquals("injected\n" + DifferentialFuzzer.getReproducer(Color.WHITE, new String[] {
+            "        ",
+            "        ",
+            " n      ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        " }, move), report);
+    }
+
+}
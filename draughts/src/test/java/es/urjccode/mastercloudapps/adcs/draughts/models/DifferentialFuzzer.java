@@ -0,0 +1,212 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.Random;
+
+class DifferentialFuzzer {
+
+    private static final int SQUARES = 64;
+    private static final int LEGAL_PERCENT = 50;
+    private static final int UNMAKE_PERCENT = 10;
+    private static final int OWN_ORIGIN_PERCENT = 80;
+    private static final int DIAGONAL_TARGET_PERCENT = 70;
+    private static final int[] LENGTHS = { 2, 2, 2, 2, 2, 2, 2, 3, 3, 4 };
+    private static final int MAX_TARGET_DISTANCE = 3;
+
+    private final Random random;
+    private final int maxPlies;
+    private final MoveList moves;
+    private long plies;
+
+    DifferentialFuzzer(long seed, int maxPlies) {
+        this.random = new Random(seed);
+        this.maxPlies = maxPlies;
+        this.moves = new MoveList();
+        this.plies = 0;
+    }
+
+    String run(int games) {
+        for (int i = 0; i < games; i++) {
+            final String mismatch = this.playGame();
+            if (mismatch != null)
+                return "Game " + (i + 1) + ", ply " + this.plies + ": " + mismatch;
+        }
+        return null;
+    }
+
+    long getPlies() {
+        return this.plies;
+    }
+
+    private String playGame() {
+        final Game game = new Game();
+        final ReferenceGame reference = new ReferenceGame(game.getTurnColor(), DifferentialFuzzer.getRows(game));
+        for (int ply = 0; ply < this.maxPlies; ply++) {
+            if (reference.isBlocked() && game.isBlocked())
+                return null;
+            this.plies++;
+            final long move = this.getMove(game);
+            final Color color = reference.getTurnColor();
+            final String[] rows = reference.getRows();
+            final String mismatch = this.compare(game, reference, move);
+            if (mismatch != null)
+                return this.report(color, rows, move, mismatch);
+        }
+        return null;
+    }
+
+    String compare(Game game, ReferenceGame reference, long move) {
+        if (game.isBlocked() != reference.isBlocked())
+            return "isBlocked " + game.isBlocked() + " but reference " + reference.isBlocked();
+        if (game.getStatus().isBlocked() != reference.isBlocked())
+            return "status blocked " + game.getStatus().isBlocked() + " but reference " + reference.isBlocked();
+        final String[] rows = reference.getRows();
+        final Error validation = game.validate(move);
+        final Error error = game.apply(move);
+        final Error expected = reference.move(DifferentialFuzzer.getCoordinates(move));
+        if (validation != expected)
+            return "validate " + validation + " but reference " + expected;
+        if (error != expected)
+            return "apply " + error + " but reference " + expected;
+        final String position = this.comparePosition(game, reference);
+        if (position != null)
+            return position;
+        if (error == null && this.random.nextInt(100) < DifferentialFuzzer.UNMAKE_PERCENT) {
+            game.unmake();
+            if (!DifferentialFuzzer.toString(DifferentialFuzzer.getRows(game)).equals(DifferentialFuzzer.toString(rows))
+                    || game.getTurnColor() == reference.getTurnColor())
+                return "unmake did not restore the position";
+            game.make(move);
+        }
+        return null;
+    }
+
+    private String comparePosition(Game game, ReferenceGame reference) {
+        final String[] rows = DifferentialFuzzer.getRows(game);
+        if (!DifferentialFuzzer.toString(rows).equals(DifferentialFuzzer.toString(reference.getRows())))
+            return "position\n" + DifferentialFuzzer.toString(rows) + "but reference\n"
+                + DifferentialFuzzer.toString(reference.getRows());
+        if (game.getTurnColor() != reference.getTurnColor())
+            return "turn " + game.getTurnColor() + " but reference " + reference.getTurnColor();
+        final Game built = new GameBuilder().color(reference.getTurnColor()).rows(reference.getRows()).build();
+        if (game.getKey() != built.getKey())
+            return "incremental key " + Long.toHexString(game.getKey()) + " but " + Long.toHexString(built.getKey());
+        return null;
+    }
+
+    String report(Color color, String[] rows, long move, String mismatch) {
+        String[] minimized = rows;
+        if (this.compare(color, rows, move) == null)
+            return mismatch + "\nNot reproducible from a fresh position, unminimized:\n"
+                + DifferentialFuzzer.getReproducer(color, rows, move);
+        boolean reduced;
+        do {
+            reduced = false;
+            for (int square = 0; square < DifferentialFuzzer.SQUARES; square++) {
+                final String[] candidate = DifferentialFuzzer.remove(minimized, square);
+                if (candidate != null && this.compare(color, candidate, move) != null) {
+                    minimized = candidate;
+                    reduced = true;
+                }
+            }
+        } while (reduced);
+        return this.compare(color, minimized, move) + "\n" + DifferentialFuzzer.getReproducer(color, minimized, move);
+    }
+
+    private String compare(Color color, String[] rows, long move) {
+        return this.compare(new GameBuilder().color(color).rows(rows).build(), new ReferenceGame(color, rows), move);
+    }
+
+    private long getMove(Game game) {
+        if (this.random.nextInt(100) < DifferentialFuzzer.LEGAL_PERCENT) {
+            game.getMoves(this.moves);
+            if (!this.moves.isEmpty())
+                return this.moves.get(this.random.nextInt(this.moves.size()));
+        }
+        int square = this.getOrigin(game);
+        long move = Move.add(Move.NONE, square);
+        final int length = DifferentialFuzzer.LENGTHS[this.random.nextInt(DifferentialFuzzer.LENGTHS.length)];
+        for (int i = 1; i < length; i++) {
+            square = this.getTarget(square);
+            move = Move.add(move, square);
+        }
+        return move;
+    }
+
+    private int getOrigin(Game game) {
+        long pieces = 0;
+        if (this.random.nextInt(100) < DifferentialFuzzer.OWN_ORIGIN_PERCENT)
+            pieces = DifferentialFuzzer.getPieces(game, game.getTurnColor());
+        if (pieces == 0)
+            return this.random.nextInt(DifferentialFuzzer.SQUARES);
+        int index = this.random.nextInt(Long.bitCount(pieces));
+        long remaining = pieces;
+        while (index-- > 0)
+            remaining &= remaining - 1;
+        return Long.numberOfTrailingZeros(remaining);
+    }
+
+    private int getTarget(int origin) {
+        if (this.random.nextInt(100) < DifferentialFuzzer.DIAGONAL_TARGET_PERCENT) {
+            final int distance = 1 + this.random.nextInt(DifferentialFuzzer.MAX_TARGET_DISTANCE);
+            final int[] diagonals = Geometry.getDiagonals(origin, distance);
+            if (diagonals.length > 0)
+                return diagonals[this.random.nextInt(diagonals.length)];
+        }
+        return this.random.nextInt(DifferentialFuzzer.SQUARES);
+    }
+
+    private static long getPieces(Game game, Color color) {
+        long pieces = 0;
+        for (int square = 0; square < DifferentialFuzzer.SQUARES; square++)
+            if (game.getColor(Coordinate.getInstance(square)) == color)
+                pieces |= 1L << square;
+        return pieces;
+    }
+
+    private static int[][] getCoordinates(long move) {
+        final int[][] coordinates = new int[Move.getLength(move)][];
+        for (int i = 0; i < coordinates.length; i++) {
+            final int square = Move.getSquare(move, i);
+            coordinates[i] = new int[] { Geometry.getRow(square), Geometry.getColumn(square) };
+        }
+        return coordinates;
+    }
+
+    static String[] getRows(Game game) {
+        final String[] rows = new String[game.getDimension()];
+        for (int i = 0; i < game.getDimension(); i++) {
+            String row = "";
+            for (int j = 0; j < game.getDimension(); j++) {
+                final Piece piece = game.getPiece(Coordinate.getInstance(i, j));
+                row += piece == null ? " " : piece.getCode();
+            }
+            rows[i] = row;
+        }
+        return rows;
+    }
+
+    private static String[] remove(String[] rows, int square) {
+        final int row = Geometry.getRow(square);
+        final int column = Geometry.getColumn(square);
+        if (rows[row].charAt(column) == ' ')
+            return null;
+        final String[] removed = rows.clone();
+        removed[row] = rows[row].substring(0, column) + " " + rows[row].substring(column + 1);
+        return removed;
+    }
+
+    private static String toString(String[] rows) {
+        String string = "";
+        for (String row : rows)
+            string += "|" + row + "|\n";
+        return string;
+    }
+
+    static String getReproducer(Color color, String[] rows, long move) {
+        String string = "new GameBuilder().color(Color." + color.name() + ").rows(\n";
+        for (int i = 0; i < rows.length; i++)
+            string += "    \"" + rows[i] + "\"" + (i < rows.length - 1 ? ",\n" : ").build()\n");
+        return string + "move " + Move.toString(move);
+    }
+
+}
@@ -0,0 +1,78 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ForkGameTest extends GameTest {
+
+    @Test
+    public void testGivenGameWhenForkThenEqualGame() {
+        Game game = new Game();
+        game.move(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1));
+        Game fork = game.fork();
+        assertEquals(game, fork);
+        assertEquals(game.getKey(), fork.getKey());
+        assertEquals(game.getTurnColor(), fork.getTurnColor());
+        assertFalse(fork.canUnmake());
+    }
+
+    @Test
+    public void testGivenForkWhenMoveThenParentUnchanged() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            " B      ",
+            "        ",
+            "        ",
+            "        ");
+        this.setExpectedGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            " B      ",
+            "        ",
+            "        ",
+            "        ");
+        Game fork = this.game.fork();
+        assertNull(fork.move(Coordinate.getInstance(4, 1), Coordinate.getInstance(2, 3)));
+        assertEquals(this.expectedGame, this.game);
+        assertNull(this.game.getPiece(Coordinate.getInstance(2, 3)));
+        assertEquals(Color.BLACK, fork.getTurnColor());
+        assertEquals(Color.WHITE, this.game.getTurnColor());
+    }
+
+    @Test
+    public void testGivenParentWhenMoveThenForkUnchanged() {
+        Game game = new Game();
+        Game fork = game.fork();
+        game.move(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1));
+        assertEquals(new Game(), fork);
+    }
+
+    @Test
+    public void testGivenForkWhenMakeBeyondForkCapacityThenUnmakeAll() {
+        Game game = new Game();
+        Game fork = game.fork();
+        MoveList moves = new MoveList();
+        int plies = 0;
+        fork.getMoves(moves);
+        while (!moves.isEmpty() && plies < 4 * UndoStack.FORK_CAPACITY) {
+            fork.make(moves.get(0));
+            plies++;
+            fork.getMoves(moves);
+        }
+        assertTrue(plies > UndoStack.FORK_CAPACITY);
+        for (; plies > 0; plies--)
+            fork.unmake();
+        assertFalse(fork.canUnmake());
+        assertEquals(game, fork);
+    }
+
+}
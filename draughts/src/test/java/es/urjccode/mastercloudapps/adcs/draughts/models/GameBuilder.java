@@ -42,9 +42,9 @@ public class GameBuilder {
 
     private void setColor(Game game, Board board) {
         if (this.color == Color.BLACK) {
-            board.put(new Coordinate(7, 0), new Pawn(Color.WHITE));
-            game.move(new Coordinate(7, 0), new Coordinate(6, 1));
-            board.remove(new Coordinate(6, 1));
+            board.put(Coordinate.getInstance(7, 0), Pawn.getInstance(Color.WHITE));
+            game.move(Coordinate.getInstance(7, 0), Coordinate.getInstance(6, 1));
+            board.remove(Coordinate.getInstance(6, 1));
         }
     }
 
@@ -52,10 +52,10 @@ public class GameBuilder {
         for (int j = 0; j < string.length(); j++) {
             Color color = this.getColor(string.charAt(j));
             if (color != null) {
-                Piece piece = new Pawn(color);
+                Piece piece = Pawn.getInstance(color);
                 if (Character.isUpperCase(string.charAt(j)))
-                    piece = new Draught(color);
-                board.put(new Coordinate(row, j), piece);
+                    piece = Draught.getInstance(color);
+                board.put(Coordinate.getInstance(row, j), piece);
             }
         }
     }
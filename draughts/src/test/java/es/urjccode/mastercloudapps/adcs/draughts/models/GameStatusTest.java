@@ -0,0 +1,87 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class GameStatusTest extends GameTest {
+
+    @Test
+    public void testGivenInitialGameWhenGetStatusThenCounts() {
+        GameStatus status = new Game().getStatus();
+        assertEquals(12, status.getPawns(Color.WHITE));
+        assertEquals(12, status.getPawns(Color.BLACK));
+        assertEquals(0, status.getDraughts(Color.WHITE));
+        assertEquals(4, status.getMovables(Color.WHITE));
+        assertEquals(4, status.getMovables(Color.BLACK));
+        assertFalse(status.isBlocked());
+        assertNull(status.getWinner());
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenGetStatusThenWinner() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "n n n   ",
+            " n N    ",
+            "b b     ");
+        GameStatus status = this.game.getStatus();
+        assertTrue(status.isBlocked());
+        assertEquals(Color.BLACK, status.getWinner());
+        assertEquals(2, status.getPieces(Color.WHITE));
+        assertEquals(5, status.getPieces(Color.BLACK));
+        assertEquals(1, status.getDraughts(Color.BLACK));
+    }
+
+    @Test
+    public void testGivenSamePositionWhenGetStatusThenCached() {
+        Game game = new Game();
+        assertSame(game.getStatus(), game.getStatus());
+        game.move(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1));
+        assertEquals(Color.BLACK, game.getStatus().getTurnColor());
+    }
+
+    @Test
+    public void testGivenRandomGamesWhenGetMovablesThenSameAsProbingTargets() {
+        Random random = new Random(3);
+        MoveList moves = new MoveList();
+        for (int i = 0; i < 50; i++) {
+            Game game = new Game();
+            game.getMoves(moves);
+            for (int plies = 0; !moves.isEmpty() && plies < 200; plies++) {
+                assertEquals(this.getMovables(game), game.getStatus().getMovables(game.getTurnColor()));
+                assertEquals(moves.isEmpty(), game.isBlocked());
+                game.make(moves.get(random.nextInt(moves.size())));
+                game.getMoves(moves);
+            }
+            assertTrue(game.isBlocked() || !moves.isEmpty());
+        }
+    }
+
+    private int getMovables(Game game) {
+        int movables = 0;
+        for (int origin = 0; origin < 64; origin++)
+            if (game.getColor(Coordinate.getInstance(origin)) == game.getTurnColor())
+                movables += this.isMovable(game, origin) ? 1 : 0;
+        return movables;
+    }
+
+    private boolean isMovable(Game game, int origin) {
+        for (int distance = 1; distance <= 2; distance++)
+            for (int target : Geometry.getDiagonals(origin, distance))
+                if (game.validate(Move.getInstance(origin, target)) == null)
+                    return true;
+        return false;
+    }
+
+}
@@ -0,0 +1,69 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class GeometryTest {
+
+    private static int square(int row, int column) {
+        return new Coordinate(row, column).getSquare();
+    }
+
+    @Test
+    public void testGivenTwoSquaresWhenGetDirectionThenDirection() {
+        assertEquals(Direction.NE, Geometry.getDirection(square(3, 3), square(5, 5)));
+        assertEquals(Direction.SE, Geometry.getDirection(square(3, 3), square(2, 4)));
+        assertEquals(Direction.SW, Geometry.getDirection(square(3, 3), square(0, 0)));
+        assertEquals(Direction.NW, Geometry.getDirection(square(3, 3), square(4, 2)));
+        assertNull(Geometry.getDirection(square(3, 5), square(4, 0)));
+        assertNull(Geometry.getDirection(square(3, 5), square(3, 5)));
+    }
+
+    @Test
+    public void testGivenTwoSquaresWhenIsOnDiagonalThenResult() {
+        assertTrue(Geometry.isOnDiagonal(square(0, 0), square(7, 7)));
+        assertFalse(Geometry.isOnDiagonal(square(3, 5), square(4, 5)));
+    }
+
+    @Test
+    public void testGivenTwoSquaresWhenGetDiagonalDistanceThenResult() {
+        assertEquals(3, Geometry.getDiagonalDistance(square(3, 4), square(0, 7)));
+        assertEquals(7, Geometry.getDiagonalDistance(square(7, 0), square(0, 7)));
+    }
+
+    @Test
+    public void testGivenTwoSquaresWhenGetBetweenThenMask() {
+        long between = 1L << square(6, 4) | 1L << square(5, 5) | 1L << square(4, 6);
+        assertEquals(between, Geometry.getBetween(square(7, 3), square(3, 7)));
+        assertEquals(between, Geometry.getBetween(square(3, 7), square(7, 3)));
+        assertEquals(0, Geometry.getBetween(square(0, 0), square(1, 1)));
+        assertEquals(0, Geometry.getBetween(square(0, 0), square(1, 2)));
+    }
+
+    @Test
+    public void testGivenSquareWhenGetRayThenMask() {
+        long ray = 1L << square(1, 1) | 1L << square(2, 2) | 1L << square(3, 3) | 1L << square(4, 4)
+            | 1L << square(5, 5) | 1L << square(6, 6) | 1L << square(7, 7);
+        assertEquals(ray, Geometry.getRay(square(0, 0), Direction.NE));
+        assertEquals(0, Geometry.getRay(square(0, 0), Direction.SW));
+    }
+
+    @Test
+    public void testGivenSquareWhenGetShiftedThenSquare() {
+        assertEquals(square(5, 2), Geometry.getShifted(square(3, 4), Direction.NW, 2));
+        assertEquals(Geometry.NONE, Geometry.getShifted(square(7, 0), Direction.NE, 1));
+    }
+
+    @Test
+    public void testGivenSquareWhenGetDiagonalsThenOrderedByDirection() {
+        assertArrayEquals(new int[] { square(5, 4), square(3, 4), square(3, 2), square(5, 2) },
+            Geometry.getDiagonals(square(4, 3), 1));
+        assertArrayEquals(new int[] { square(5, 2) }, Geometry.getDiagonals(square(7, 0), 2));
+    }
+
+}
@@ -0,0 +1,151 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class GetMovesGameTest extends GameTest {
+
+    private static final int SQUARES = 64;
+
+    private MoveList moves = new MoveList();
+
+    private String[] strings;
+    private Color color;
+
+    @Override
+    protected void setGame(Color color, String... strings) {
+        super.setGame(color, strings);
+        this.color = color;
+        this.strings = strings;
+        this.game.getMoves(this.moves);
+    }
+
+    private long getMove(int... squares) {
+        long move = Move.NONE;
+        for (int square : squares)
+            move = Move.add(move, square);
+        return move;
+    }
+
+    private static int square(int row, int column) {
+        return Coordinate.getInstance(row, column).getSquare();
+    }
+
+    private void assertBruteForce(int maxLength) {
+        int legal = 0;
+        for (int origin = 0; origin < SQUARES; origin++) {
+            if (this.game.getColor(Coordinate.getInstance(origin)) != this.game.getTurnColor())
+                continue;
+            for (int target = 0; target < SQUARES; target++) {
+                legal += this.countLegal(this.getMove(origin, target));
+                if (maxLength > 2)
+                    for (int next = 0; next < SQUARES; next++)
+                        legal += this.countLegal(this.getMove(origin, target, next));
+            }
+        }
+        assertEquals(legal, this.countMoves(maxLength));
+    }
+
+    private int countLegal(long move) {
+        Game game = new GameBuilder().color(this.color).rows(this.strings).build();
+        if (game.apply(move) != null)
+            return 0;
+        assertTrue(Move.toString(move), this.moves.contains(move));
+        return 1;
+    }
+
+    private int countMoves(int maxLength) {
+        int count = 0;
+        for (int i = 0; i < this.moves.size(); i++)
+            if (Move.getLength(this.moves.get(i)) <= maxLength)
+                count++;
+        return count;
+    }
+
+    @Test
+    public void testGivenInitialGameWhenGetMovesThenSeven() {
+        this.game = new Game();
+        this.game.getMoves(this.moves);
+        assertEquals(7, this.moves.size());
+        assertTrue(this.moves.contains(this.getMove(square(5, 0), square(4, 1))));
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenGetMovesThenEmpty() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "n n n   ",
+            " n n    ",
+            "b b     ");
+        assertTrue(this.moves.isEmpty());
+        assertTrue(this.game.isBlocked());
+    }
+
+    @Test
+    public void testGivenPawnWithTwoEatingsWhenGetMovesThenChain() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ");
+        long move = this.getMove(square(5, 0), square(3, 2), square(1, 4));
+        assertTrue(this.moves.contains(move));
+        assertNull(this.game.apply(move));
+    }
+
+    @Test
+    public void testGivenPawnPromotedWhileEatingWhenGetMovesThenDraughtChain() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "  n     ",
+            "   b    ",
+            "    n   ",
+            "        ",
+            "        ",
+            "        ",
+            "        ");
+        long move = this.getMove(square(2, 3), square(0, 1), square(4, 5));
+        assertTrue(this.moves.contains(move));
+        assertNull(this.game.apply(move));
+    }
+
+    @Test
+    public void testGivenPawnPositionWhenGetMovesThenSameAsBruteForce() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "  n n   ",
+            "   b    ",
+            "  n n   ",
+            "     b  ",
+            "b b   n ",
+            " b      ",
+            "        ");
+        this.assertBruteForce(3);
+    }
+
+    @Test
+    public void testGivenDraughtPositionWhenGetMovesThenSameAsBruteForce() {
+        this.setGame(Color.BLACK,
+            " N      ",
+            "        ",
+            "   b    ",
+            "        ",
+            "   B b  ",
+            "      N ",
+            " b   b  ",
+            "        ");
+        this.assertBruteForce(3);
+    }
+
+}
@@ -511,4 +511,39 @@ public class IncorrectMovesPawnGameTest extends GameTest {
             new Coordinate(1, 2));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testGivenGameWhenMoveLongerThanMaximumThenNOT_ADVANCED() {
+        setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "b       ",
+            "        ",
+            "        ");
+        assertErrorMove(Error.NOT_ADVANCED, this.getShuttle(Move.MAX_LENGTH + 2));
+    }
+
+    @Test
+    public void testGivenGameWhenDraughtMoveLongerThanMaximumThenTOO_MUCH_JUMPS() {
+        setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "B       ",
+            "        ",
+            "        ");
+        assertErrorMove(Error.TOO_MUCH_JUMPS, this.getShuttle(Move.MAX_LENGTH + 2));
+    }
+
+    private Coordinate[] getShuttle(int length) {
+        Coordinate[] coordinates = new Coordinate[length];
+        for (int i = 0; i < coordinates.length; i++)
+            coordinates[i] = i % 2 == 0 ? new Coordinate(5, 0) : new Coordinate(4, 1);
+        return coordinates;
+    }
+
+}
@@ -0,0 +1,99 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class KeyGameTest extends GameTest {
+
+    @Test
+    public void testGivenEqualGamesWhenGetKeyThenEqual() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            " B      ",
+            "        ",
+            "        ",
+            "        ");
+        this.setExpectedGame(Color.BLACK,
+            "        ",
+            "        ",
+            "   B    ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ");
+        assertFalse(this.expectedGame.getKey() == this.game.getKey());
+        this.game.move(Coordinate.getInstance(4, 1), Coordinate.getInstance(2, 3));
+        assertEquals(this.expectedGame.getKey(), this.game.getKey());
+        assertEquals(this.expectedGame.hashCode(), this.game.hashCode());
+    }
+
+    @Test
+    public void testGivenSamePiecesWhenOtherTurnThenOtherKey() {
+        String[] rows = {
+            "        ",
+            "        ",
+            "        ",
+            "  n     ",
+            " b      ",
+            "        ",
+            "        ",
+            "        " };
+        this.setGame(Color.WHITE, rows);
+        this.setExpectedGame(Color.BLACK, rows);
+        assertFalse(this.expectedGame.getKey() == this.game.getKey());
+        assertFalse(this.expectedGame.equals(this.game));
+    }
+
+    @Test
+    public void testGivenPromotionWhenGetKeyThenDraughtKey() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "b       ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ");
+        this.setExpectedGame(Color.BLACK,
+            " B      ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ");
+        this.game.move(Coordinate.getInstance(1, 0), Coordinate.getInstance(0, 1));
+        assertEquals(this.expectedGame.getKey(), this.game.getKey());
+    }
+
+    @Test
+    public void testGivenRandomGameWhenMakeAndUnmakeThenSameKeys() {
+        Random random = new Random(2);
+        MoveList moves = new MoveList();
+        Game game = new Game();
+        long[] keys = new long[UndoStack.DEFAULT_CAPACITY];
+        int plies = 0;
+        game.getMoves(moves);
+        while (!moves.isEmpty() && plies < keys.length) {
+            keys[plies++] = game.getKey();
+            game.make(moves.get(random.nextInt(moves.size())));
+            game.getMoves(moves);
+        }
+        while (plies > 0) {
+            game.unmake();
+            assertEquals(keys[--plies], game.getKey());
+        }
+        assertEquals(new Game().getKey(), game.getKey());
+    }
+
+}
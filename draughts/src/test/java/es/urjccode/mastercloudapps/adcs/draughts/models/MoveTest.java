@@ -0,0 +1,64 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class MoveTest {
+
+    @Test
+    public void testGivenCoordinatesWhenGetInstanceThenSquares() {
+        long move = Move.getInstance(
+            Coordinate.getInstance(5, 0),
+            Coordinate.getInstance(3, 2),
+            Coordinate.getInstance(1, 4));
+        assertEquals(3, Move.getLength(move));
+        assertEquals(Coordinate.getInstance(5, 0), Move.getCoordinate(move, 0));
+        assertEquals(Coordinate.getInstance(3, 2), Move.getCoordinate(move, 1));
+        assertEquals(Coordinate.getInstance(1, 4), Move.getCoordinate(move, 2));
+    }
+
+    @Test
+    public void testGivenMaximumLengthMoveWhenGetSquareThenLastSquare() {
+        long move = Move.NONE;
+        for (int i = 0; i < Move.MAX_LENGTH; i++)
+            move = Move.add(move, 63 - i);
+        assertEquals(Move.MAX_LENGTH, Move.getLength(move));
+        assertEquals(63, Move.getOrigin(move));
+        assertEquals(63 - Move.MAX_LENGTH + 1, Move.getTarget(move));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGivenMaximumLengthMoveWhenAddThenError() {
+        long move = Move.NONE;
+        for (int i = 0; i <= Move.MAX_LENGTH; i++)
+            move = Move.add(move, i);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGivenOutOfRangeSquareWhenAddThenError() {
+        Move.add(Move.NONE, 64);
+    }
+
+    @Test
+    public void testGivenMoveWhenToStringThenPlayFormat() {
+        assertEquals("61.52", Move.toString(Move.getInstance(
+            Coordinate.getInstance(5, 0),
+            Coordinate.getInstance(4, 1))));
+    }
+
+    @Test
+    public void testGivenGameWhenApplyThenSameAsMove() {
+        Game game = new GameBuilder().build();
+        assertEquals(null, game.apply(Move.getInstance(
+            Coordinate.getInstance(5, 0).getSquare(),
+            Coordinate.getInstance(4, 1).getSquare())));
+        Game expectedGame = new GameBuilder().build();
+        expectedGame.move(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1));
+        assertEquals(expectedGame, game);
+        assertEquals(Error.OPPOSITE_PIECE, game.apply(Move.getInstance(
+            Coordinate.getInstance(4, 1).getSquare(),
+            Coordinate.getInstance(3, 0).getSquare())));
+    }
+
+}
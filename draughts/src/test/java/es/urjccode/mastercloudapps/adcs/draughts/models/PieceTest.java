@@ -1,6 +1,8 @@
 package es.urjccode.mastercloudapps.adcs.draughts.models;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -21,4 +23,13 @@ public class PieceTest {
         assertFalse(new Pawn(Color.BLACK).isAdvanced(new Coordinate(2,1), new Coordinate(1,2)));
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void testGivenColorWhenGetInstanceThenSharedPiece(){
+        assertSame(Pawn.getInstance(Color.WHITE), Pawn.getInstance(Color.WHITE));
+        assertSame(Draught.getInstance(Color.BLACK), Draught.getInstance(Color.BLACK));
+        assertEquals(new Pawn(Color.BLACK), Pawn.getInstance(Color.BLACK));
+        assertEquals("B", Draught.getInstance(Color.WHITE).getCode());
+    }
+
+}
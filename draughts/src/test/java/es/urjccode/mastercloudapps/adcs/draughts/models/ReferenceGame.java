@@ -0,0 +1,161 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ReferenceGame {
+
+    private static final int DIMENSION = 8;
+    private static final char EMPTY = ' ';
+    private static final int PAWN_MAX_DISTANCE = 2;
+
+    private char[][] pieces;
+    private Color turn;
+
+    ReferenceGame(Color turn, String... rows) {
+        assert rows.length == ReferenceGame.DIMENSION;
+        this.pieces = new char[ReferenceGame.DIMENSION][];
+        for (int i = 0; i < ReferenceGame.DIMENSION; i++)
+            this.pieces[i] = rows[i].toCharArray();
+        this.turn = turn;
+    }
+
+    Error move(int[]... coordinates) {
+        final char[][] snapshot = this.copyPieces();
+        Error error = null;
+        int removed = 0;
+        int pair = 0;
+        do {
+            error = this.isCorrectPairMove(coordinates[pair], coordinates[pair + 1]);
+            if (error == null) {
+                if (this.pairMove(coordinates[pair], coordinates[pair + 1]))
+                    removed++;
+                pair++;
+            }
+        } while (pair < coordinates.length - 1 && error == null);
+        if (error == null && coordinates.length > 2 && coordinates.length > removed + 1)
+            error = Error.TOO_MUCH_JUMPS;
+        if (error == null)
+            this.turn = this.turn.getOpposite();
+        else
+            this.pieces = snapshot;
+        return error;
+    }
+
+    private Error isCorrectPairMove(int[] origin, int[] target) {
+        final char piece = this.getPiece(origin);
+        if (piece == ReferenceGame.EMPTY)
+            return Error.EMPTY_ORIGIN;
+        if (ReferenceGame.getColor(piece) != this.turn)
+            return Error.OPPOSITE_PIECE;
+        if (this.getPiece(target) != ReferenceGame.EMPTY)
+            return Error.NOT_EMPTY_TARGET;
+        if (!ReferenceGame.isOnDiagonal(origin, target))
+            return Error.NOT_DIAGONAL;
+        final List<int[]> betweens = this.getBetweenPieces(origin, target);
+        for (int[] between : betweens)
+            if (ReferenceGame.getColor(this.getPiece(between)) == ReferenceGame.getColor(piece))
+                return Error.COLLEAGUE_EATING;
+        if (Character.isUpperCase(piece)) {
+            if (betweens.size() > 1)
+                return Error.TOO_MUCH_EATINGS;
+            return null;
+        }
+        final int difference = origin[0] - target[0];
+        if (ReferenceGame.getColor(piece) == Color.WHITE ? difference <= 0 : difference >= 0)
+            return Error.NOT_ADVANCED;
+        final int distance = Math.abs(difference);
+        if (distance > ReferenceGame.PAWN_MAX_DISTANCE)
+            return Error.TOO_MUCH_ADVANCED;
+        if (distance == ReferenceGame.PAWN_MAX_DISTANCE && betweens.size() != 1)
+            return Error.WITHOUT_EATING;
+        return null;
+    }
+
+    private boolean pairMove(int[] origin, int[] target) {
+        final List<int[]> betweens = this.getBetweenPieces(origin, target);
+        if (!betweens.isEmpty())
+            this.setPiece(betweens.get(0), ReferenceGame.EMPTY);
+        char piece = this.getPiece(origin);
+        this.setPiece(origin, ReferenceGame.EMPTY);
+        if (ReferenceGame.getColor(piece) == Color.WHITE && target[0] == 0
+                || ReferenceGame.getColor(piece) == Color.BLACK && target[0] == ReferenceGame.DIMENSION - 1)
+            piece = Character.toUpperCase(piece);
+        this.setPiece(target, piece);
+        return !betweens.isEmpty();
+    }
+
+    boolean isBlocked() {
+        for (int i = 0; i < ReferenceGame.DIMENSION; i++)
+            for (int j = 0; j < ReferenceGame.DIMENSION; j++) {
+                final int[] origin = { i, j };
+                if (this.getPiece(origin) == ReferenceGame.EMPTY
+                        || ReferenceGame.getColor(this.getPiece(origin)) != this.turn)
+                    continue;
+                for (int distance = 1; distance <= ReferenceGame.PAWN_MAX_DISTANCE; distance++)
+                    for (int[] target : ReferenceGame.getDiagonals(origin, distance))
+                        if (this.isCorrectPairMove(origin, target) == null)
+                            return false;
+            }
+        return true;
+    }
+
+    private List<int[]> getBetweenPieces(int[] origin, int[] target) {
+        final List<int[]> betweens = new ArrayList<int[]>();
+        final int rowShift = Integer.signum(target[0] - origin[0]);
+        final int columnShift = Integer.signum(target[1] - origin[1]);
+        for (int[] cursor = { origin[0] + rowShift, origin[1] + columnShift }; cursor[0] != target[0];
+                cursor = new int[] { cursor[0] + rowShift, cursor[1] + columnShift })
+            if (this.getPiece(cursor) != ReferenceGame.EMPTY)
+                betweens.add(cursor);
+        return betweens;
+    }
+
+    private static List<int[]> getDiagonals(int[] origin, int distance) {
+        final List<int[]> diagonals = new ArrayList<int[]>();
+        for (int rowShift = -1; rowShift <= 1; rowShift += 2)
+            for (int columnShift = -1; columnShift <= 1; columnShift += 2) {
+                final int[] target = { origin[0] + rowShift * distance, origin[1] + columnShift * distance };
+                if (0 <= target[0] && target[0] < ReferenceGame.DIMENSION
+                        && 0 <= target[1] && target[1] < ReferenceGame.DIMENSION)
+                    diagonals.add(target);
+            }
+        return diagonals;
+    }
+
+    private static boolean isOnDiagonal(int[] origin, int[] target) {
+        final int rows = target[0] - origin[0];
+        return rows != 0 && Math.abs(rows) == Math.abs(target[1] - origin[1]);
+    }
+
+    private static Color getColor(char piece) {
+        return Character.toLowerCase(piece) == 'b' ? Color.WHITE : Color.BLACK;
+    }
+
+    private char getPiece(int[] coordinate) {
+        return this.pieces[coordinate[0]][coordinate[1]];
+    }
+
+    private void setPiece(int[] coordinate, char piece) {
+        this.pieces[coordinate[0]][coordinate[1]] = piece;
+    }
+
+    private char[][] copyPieces() {
+        final char[][] copy = new char[ReferenceGame.DIMENSION][];
+        for (int i = 0; i < ReferenceGame.DIMENSION; i++)
+            copy[i] = this.pieces[i].clone();
+        return copy;
+    }
+
+    Color getTurnColor() {
+        return this.turn;
+    }
+
+    String[] getRows() {
+        final String[] rows = new String[ReferenceGame.DIMENSION];
+        for (int i = 0; i < ReferenceGame.DIMENSION; i++)
+            rows[i] = new String(this.pieces[i]);
+        return rows;
+    }
+
+}
@@ -0,0 +1,193 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class UnmakeGameTest extends GameTest {
+
+    @Test
+    public void testGivenNewGameWhenCanUnmakeThenFalse() {
+        assertFalse(new Game().canUnmake());
+    }
+
+    @Test
+    public void testGivenGameWhenEatingDraughtAndUnmakeThenDraughtRestored() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  N     ",
+            " b      ",
+            "        ",
+            "        ",
+            "        ");
+        this.setExpectedGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  N     ",
+            " b      ",
+            "        ",
+            "        ",
+            "        ");
+        assertEquals(null, this.game.move(Coordinate.getInstance(4, 1), Coordinate.getInstance(2, 3)));
+        this.game.unmake();
+        assertEquals(this.expectedGame, this.game);
+        assertFalse(this.game.canUnmake());
+    }
+
+    @Test
+    public void testGivenGameWhenTooMuchJumpsAfterEatingDraughtThenDraughtRestored() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  N     ",
+            " b      ",
+            "        ",
+            "        ",
+            "        ");
+        this.setExpectedGame(Color.WHITE,
+            "        ",
+            "        ",
+            "        ",
+            "  N     ",
+            " b      ",
+            "        ",
+            "        ",
+            "        ");
+        assertEquals(Error.TOO_MUCH_JUMPS, this.game.move(
+            Coordinate.getInstance(4, 1),
+            Coordinate.getInstance(2, 3),
+            Coordinate.getInstance(1, 4)));
+        assertEquals(this.expectedGame, this.game);
+    }
+
+    @Test
+    public void testGivenGameWhenPromotingAndUnmakeThenPawnRestored() {
+        this.setGame(Color.WHITE,
+            "        ",
+            "b       ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ");
+        this.setExpectedGame(Color.WHITE,
+            "        ",
+            "b       ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ");
+        this.game.make(Move.getInstance(Coordinate.getInstance(1, 0), Coordinate.getInstance(0, 1)));
+        assertEquals(Draught.getInstance(Color.WHITE), this.game.getPiece(Coordinate.getInstance(0, 1)));
+        this.game.unmake();
+        assertEquals(this.expectedGame, this.game);
+    }
+
+    @Test
+    public void testGivenRandomGamesWhenUnmakeAllThenInitialGame() {
+        Random random = new Random(1);
+        MoveList moves = new MoveList();
+        for (int i = 0; i < 20; i++) {
+            Game game = new Game();
+            int plies = 0;
+            game.getMoves(moves);
+            while (!moves.isEmpty() && plies < UndoStack.DEFAULT_CAPACITY) {
+                game.make(moves.get(random.nextInt(moves.size())));
+                plies++;
+                game.getMoves(moves);
+            }
+            for (; plies > 0; plies--) {
+                assertTrue(game.canUnmake());
+                game.unmake();
+            }
+            assertEquals(new Game(), game);
+        }
+    }
+
+    @Test
+    public void testGivenMorePliesThanDefaultCapacityWhenUnmakeAllThenInitialGame() {
+        this.setGame(Color.WHITE,
+            "       N",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "B       ");
+        this.setExpectedGame(Color.WHITE,
+            "       N",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "B       ");
+        int plies = this.shuffle(2 * UndoStack.DEFAULT_CAPACITY + 1);
+        for (; plies > 0; plies--) {
+            assertTrue(this.game.canUnmake());
+            this.game.unmake();
+        }
+        assertFalse(this.game.canUnmake());
+        assertEquals(this.expectedGame, this.game);
+    }
+
+    @Test
+    public void testGivenFullDefaultCapacityWhenRejectedMoveThenHistoryUnchanged() {
+        this.setGame(Color.WHITE,
+            "       N",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "B       ");
+        this.setExpectedGame(Color.WHITE,
+            "       N",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "B       ");
+        int plies = this.shuffle(UndoStack.DEFAULT_CAPACITY);
+        long illegal = Move.getInstance(Coordinate.getInstance(5, 0), Coordinate.getInstance(4, 1));
+        assertEquals(Error.EMPTY_ORIGIN, this.game.apply(illegal));
+        try {
+            this.game.make(illegal);
+            fail();
+        } catch (IllegalArgumentException ex) {
+        }
+        for (; plies > 0; plies--)
+            this.game.unmake();
+        assertFalse(this.game.canUnmake());
+        assertEquals(this.expectedGame, this.game);
+    }
+
+    private int shuffle(int plies) {
+        long[] moves = new long[] {
+            Move.getInstance(Coordinate.getInstance(7, 0), Coordinate.getInstance(6, 1)),
+            Move.getInstance(Coordinate.getInstance(0, 7), Coordinate.getInstance(1, 6)),
+            Move.getInstance(Coordinate.getInstance(6, 1), Coordinate.getInstance(7, 0)),
+            Move.getInstance(Coordinate.getInstance(1, 6), Coordinate.getInstance(0, 7)) };
+        for (int i = 0; i < plies; i++)
+            this.game.make(moves[i % moves.length]);
+        return plies;
+    }
+
+}
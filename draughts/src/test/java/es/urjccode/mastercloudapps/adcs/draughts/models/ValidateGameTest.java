@@ -0,0 +1,87 @@
+package es.urjccode.mastercloudapps.adcs.draughts.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ValidateGameTest extends GameTest {
+
+    private static final String[] ROWS = {
+        "        ",
+        "        ",
+        "   n    ",
+        "        ",
+        " N   n  ",
+        "B   b   ",
+        "        ",
+        "        " };
+
+    @Test
+    public void testGivenGameWhenValidateThenSameErrorAsApplyAndUnchanged() {
+        this.setGame(Color.WHITE, ROWS);
+        this.setExpectedGame(Color.WHITE, ROWS);
+        for (int origin = 0; origin < 64; origin++)
+            for (int target = 0; target < 64; target++) {
+                long move = Move.getInstance(origin, target);
+                Game game = new GameBuilder().color(Color.WHITE).rows(ROWS).build();
+                assertEquals(Move.toString(move), game.apply(move), this.game.validate(move));
+                assertEquals(this.expectedGame, this.game);
+            }
+    }
+
+    @Test
+    public void testGivenGameWhenGetValidationWithTwoEatingsThenCaptures() {
+        this.setGame(Color.WHITE, ROWS);
+        MoveValidation validation = this.game.getValidation(Move.getInstance(
+            Coordinate.getInstance(5, 0),
+            Coordinate.getInstance(3, 2),
+            Coordinate.getInstance(1, 4)));
+        assertTrue(validation.isCorrect());
+        assertEquals(2, validation.getAmountCaptures());
+        assertEquals(Arrays.asList(Coordinate.getInstance(2, 3), Coordinate.getInstance(4, 1)),
+            validation.getCaptures());
+        assertFalse(validation.isPromotion());
+    }
+
+    @Test
+    public void testGivenGameWhenGetValidationWithBadMoveThenError() {
+        this.setGame(Color.WHITE, ROWS);
+        MoveValidation validation = this.game.getValidation(Move.getInstance(
+            Coordinate.getInstance(5, 0),
+            Coordinate.getInstance(4, 1)));
+        assertFalse(validation.isCorrect());
+        assertEquals(Error.NOT_EMPTY_TARGET, validation.getError());
+    }
+
+    @Test
+    public void testGivenSharedGameWhenValidateFromSeveralThreadsThenSameErrors() throws InterruptedException {
+        this.setGame(Color.WHITE, ROWS);
+        final MoveList moves = new MoveList();
+        this.game.getMoves(moves);
+        final AtomicInteger mismatches = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j++)
+                        for (int k = 0; k < moves.size(); k++)
+                            if (game.validate(moves.get(k)) != null)
+                                mismatches.incrementAndGet();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        assertEquals(0, mismatches.get());
+        this.setExpectedGame(Color.WHITE, ROWS);
+        assertEquals(this.expectedGame, this.game);
+    }
+
+}
@@ -0,0 +1,10 @@
+package es.urjccode.mastercloudapps.adcs.draughts.perft;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ 
+    PerftTest.class } )
+public final class AllPerftTest {
+}
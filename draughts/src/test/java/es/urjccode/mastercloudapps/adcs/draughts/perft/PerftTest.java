@@ -0,0 +1,95 @@
+package es.urjccode.mastercloudapps.adcs.draughts.perft;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+
+public class PerftTest {
+
+    private Game getMiddleGame() {
+        return new GameBuilder().color(Color.WHITE).rows(
+            " n   n n",
+            "n   n   ",
+            " n n   n",
+            "  b   n ",
+            " b   b  ",
+            "b   B   ",
+            " b b   b",
+            "b     b ").build();
+    }
+
+    @Test
+    public void testGivenInitialGameWhenCountThenKnownNodes() {
+        Perft perft = new Perft(new Game());
+        assertEquals(1, perft.count(0));
+        assertEquals(7, perft.count(1));
+        assertEquals(49, perft.count(2));
+    }
+
+    @Test
+    public void testGivenGameWhenCountThenGameUnchanged() {
+        Game game = this.getMiddleGame();
+        new Perft(game).count(3);
+        assertEquals(this.getMiddleGame(), game);
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenCountThenZero() {
+        Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "n n n   ",
+            " n n    ",
+            "b b     ").build();
+        assertEquals(0, new Perft(game).count(2));
+    }
+
+    @Test
+    public void testGivenCaptureGameWhenCountThenCapturePrefixesCounted() {
+        Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ").build();
+        assertEquals(2, new Perft(game).count(1));
+    }
+
+    @Test
+    public void testGivenGameWhenDivideThenTotalIsCount() {
+        Game game = this.getMiddleGame();
+        Divide divide = new Perft(game).divide(4);
+        assertEquals(new Perft(game).count(4), divide.getTotal());
+    }
+
+    @Test
+    public void testGivenTableWhenCountThenSameNodes() {
+        Game game = new Game();
+        assertEquals(new Perft(game).count(6), new Perft(game, new PerftTable(1)).count(6));
+    }
+
+    @Test
+    public void testGivenParallelPerftWhenCountThenSameNodes() {
+        Game game = this.getMiddleGame();
+        assertEquals(new Perft(game).count(5), new ParallelPerft(game, 4, 1).count(5));
+    }
+
+    @Test
+    public void testGivenParallelPerftWhenDivideThenSameDivide() {
+        Game game = new Game();
+        Divide expected = new Perft(game).divide(6);
+        Divide divide = new ParallelPerft(game, 4, 1).divide(6);
+        assertEquals(expected.toString(), divide.toString());
+    }
+
+}
@@ -0,0 +1,14 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({ 
+    LazySmpTest.class,
+    SearchTest.class,
+    TimeManagerTest.class,
+    TranspositionTableTest.class,
+    YbwSearchTest.class } )
+public final class AllSearchTest {
+}
@@ -0,0 +1,193 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Metrics;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveList;
+
+public class LazySmpTest {
+
+    private static final int THREADS = 4;
+    private static final long SLACK_NANOS = 200000000;
+    private static final long CANCEL_DELAY_MILLIS = 100;
+    private static final long JOIN_MILLIS = 5000;
+
+    private Game getMiddleGame() {
+        return new GameBuilder().color(Color.WHITE).rows(
+            " n   n n",
+            "n   n   ",
+            " n n   n",
+            "  b   n ",
+            " b   b  ",
+            "b   B   ",
+            " b b   b",
+            "b     b ").build();
+    }
+
+    @Test
+    public void testGivenOneThreadWhenSearchThenSameAsSearchWithTable() {
+        final Game game = this.getMiddleGame();
+        final LazySmpResult result = new LazySmp(game, 1, new TranspositionTable(1)).search(6);
+        final SearchResult expected = new Search(game, new TranspositionTable(1)).search(6);
+        assertEquals(expected.getMove(), result.getMove());
+        assertEquals(expected.getScore(), result.getScore());
+        assertEquals(expected.getNodes(), result.getNodes());
+        assertEquals(1, result.getThreads());
+    }
+
+    @Test
+    public void testGivenThreadsWhenSearchThenLegalMoveAndPerThreadNodes() {
+        final Game game = this.getMiddleGame();
+        final LazySmpResult result = new LazySmp(game, LazySmpTest.THREADS, new TranspositionTable(4)).search(7);
+        final MoveList moves = new MoveList();
+        game.getMoves(moves);
+        assertTrue(moves.contains(result.getMove()));
+        assertTrue(result.getDepth() >= 7);
+        assertEquals(LazySmpTest.THREADS, result.getThreads());
+        long nodes = 0;
+        for (int i = 0; i < result.getThreads(); i++) {
+            assertTrue(result.getNodes(i) > 0);
+            nodes += result.getNodes(i);
+        }
+        assertEquals(nodes, result.getNodes());
+        assertEquals(this.getMiddleGame(), game);
+        assertFalse(game.canUnmake());
+    }
+
+    @Test
+    public void testGivenThreadsWhenSearchCaptureChainThenWinningChain() {
+        final Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ").build();
+        final LazySmpResult result = new LazySmp(game, LazySmpTest.THREADS, new TranspositionTable(1)).search(4);
+        assertTrue(result.getResult().isWin());
+        assertEquals(Search.WIN - 1, result.getScore());
+    }
+
+    @Test
+    public void testGivenTimeManagerWhenSearchThenWithinHardDeadline() {
+        final TimeManager timeManager = new TimeManager(200);
+        final long start = System.nanoTime();
+        final LazySmpResult result = new LazySmp(this.getMiddleGame(), LazySmpTest.THREADS,
+            new TranspositionTable(4)).search(timeManager);
+        final long elapsed = System.nanoTime() - start;
+        assertTrue(result.getResult().hasMove());
+        assertTrue(elapsed + " nanos", elapsed < timeManager.getHardNanos() + LazySmpTest.SLACK_NANOS);
+    }
+
+    @Test
+    public void testGivenRunningSearchWhenCancelThenAllThreadsStop() throws InterruptedException {
+        final LazySmp lazySmp = new LazySmp(this.getMiddleGame(), LazySmpTest.THREADS, new TranspositionTable(4));
+        final LazySmpResult[] results = new LazySmpResult[1];
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                results[0] = lazySmp.search(Search.MAX_DEPTH);
+            }
+        });
+        thread.start();
+        Thread.sleep(LazySmpTest.CANCEL_DELAY_MILLIS);
+        lazySmp.cancel();
+        thread.join(LazySmpTest.JOIN_MILLIS);
+        assertFalse(thread.isAlive());
+        assertTrue(results[0].getResult().hasMove());
+    }
+
+    @Test
+    public void testGivenCancelBeforeSearchWhenSearchThenStopsAfterFirstIteration() {
+        final LazySmp lazySmp = new LazySmp(this.getMiddleGame(), LazySmpTest.THREADS, new TranspositionTable(4));
+        lazySmp.cancel();
+        final LazySmpResult result = lazySmp.search(Search.MAX_DEPTH);
+        assertTrue(result.getResult().hasMove());
+        assertEquals(1, result.getDepth(0));
+        lazySmp.reset();
+        assertTrue(lazySmp.search(4).getDepth() >= 4);
+    }
+
+    @Test
+    public void testGivenSearchWhenSearchThenOneSearchRecorded() {
+        final long searches = Metrics.getSearchCount();
+        new LazySmp(new Game(), LazySmpTest.THREADS, new TranspositionTable(1)).search(4);
+        assertEquals(searches + 1, Metrics.getSearchCount());
+    }
+
+    @Test
+    public void testGivenHelpersWhenIsSkippedThenDistinctIterationSequences() {
+        final int helpers = 20;
+        final Set<String> sequences = new HashSet<String>();
+        for (int helper = 1; helper <= helpers; helper++) {
+            String sequence = "";
+            for (int depth = 1; depth <= 2 * helpers; depth++)
+                sequence += LazySmp.isSkipped(helper, depth) ? "-" : "+";
+            assertTrue(sequence, sequence.contains("+"));
+            sequences.add(sequence);
+        }
+        assertEquals(helpers, sequences.size());
+    }
+
+    @Test
+    public void testGivenCancelWhileCreatingSearchesWhenSearchThenStops() throws InterruptedException {
+        final LazySmp lazySmp = new LazySmp(this.getMiddleGame(), LazySmpTest.THREADS, new TranspositionTable(4)) {
+            @Override
+            Search getSearch(int index) {
+                if (index == LazySmpTest.THREADS - 1)
+                    this.cancel();
+                return super.getSearch(index);
+            }
+        };
+        final LazySmpResult[] results = new LazySmpResult[1];
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                results[0] = lazySmp.search(Search.MAX_DEPTH);
+            }
+        });
+        thread.start();
+        thread.join(LazySmpTest.JOIN_MILLIS);
+        assertFalse(thread.isAlive());
+        assertTrue(results[0].getResult().hasMove());
+    }
+
+    @Test
+    public void testGivenFailingHelperWhenSearchThenFailureRethrown() {
+        final IllegalStateException failure = new IllegalStateException("helper");
+        final LazySmp lazySmp = new LazySmp(this.getMiddleGame(), 2, new TranspositionTable(1)) {
+            @Override
+            Search getSearch(int index) {
+                if (index == 0)
+                    return super.getSearch(index);
+                return new Search(new Game()) {
+                    @Override
+                    boolean isSkipped(int depth) {
+                        throw failure;
+                    }
+                };
+            }
+        };
+        try {
+            lazySmp.search(4);
+            fail();
+        } catch (IllegalStateException ex) {
+            assertSame(failure, ex.getCause());
+        }
+    }
+
+}
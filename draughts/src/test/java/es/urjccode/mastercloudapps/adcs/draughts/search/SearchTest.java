@@ -0,0 +1,231 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Metrics;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Coordinate;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Move;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveList;
+
+public class SearchTest {
+
+    private static final long SLACK_NANOS = 100000000;
+    private static final long CANCEL_DELAY_MILLIS = 100;
+    private static final long JOIN_MILLIS = 5000;
+
+    private Game getMiddleGame() {
+        return new GameBuilder().color(Color.WHITE).rows(
+            " n   n n",
+            "n   n   ",
+            " n n   n",
+            "  b   n ",
+            " b   b  ",
+            "b   B   ",
+            " b b   b",
+            "b     b ").build();
+    }
+
+    @Test
+    public void testGivenInitialGameWhenSearchThenLegalMove() {
+        final Game game = new Game();
+        final SearchResult result = new Search(game).search(4);
+        final MoveList moves = new MoveList();
+        game.getMoves(moves);
+        assertTrue(moves.contains(result.getMove()));
+        assertEquals(4, result.getDepth());
+        assertTrue(result.getNodes() > 0);
+    }
+
+    @Test
+    public void testGivenGameWhenSearchThenGameUnchanged() {
+        final Game game = this.getMiddleGame();
+        new Search(game).search(5);
+        assertEquals(this.getMiddleGame(), game);
+        assertFalse(game.canUnmake());
+    }
+
+    @Test
+    public void testGivenCaptureChainWhenSearchThenWinningChain() {
+        final Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ").build();
+        final SearchResult result = new Search(game).search(1);
+        assertEquals(Move.getInstance(Coordinate.getInstance(5, 0), Coordinate.getInstance(3, 2),
+            Coordinate.getInstance(1, 4)), result.getMove());
+        assertTrue(result.isWin());
+        assertEquals(Search.WIN - 1, result.getScore());
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenSearchThenLossWithoutMove() {
+        final Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "n n n   ",
+            " n n    ",
+            "b b     ").build();
+        final SearchResult result = new Search(game).search(3);
+        assertFalse(result.hasMove());
+        assertTrue(result.isLoss());
+    }
+
+    @Test
+    public void testGivenGameWhenSearchThenSameScoreAsMinimax() {
+        final Game[] games = { new Game(), this.getMiddleGame() };
+        for (Game game : games)
+            for (int depth = 1; depth <= 4; depth++)
+                assertEquals(SearchTest.minimax(game, depth, 0), new Search(game).search(depth).getScore());
+    }
+
+    @Test
+    public void testGivenTableWhenSearchThenSameScoreAndFewerNodes() {
+        final Game game = new Game();
+        final TranspositionTable table = new TranspositionTable(1);
+        for (int depth = 1; depth <= 6; depth++) {
+            table.clear();
+            final SearchResult result = new Search(game, table).search(depth);
+            final SearchResult expected = new Search(game).search(depth);
+            assertEquals(expected.getScore(), result.getScore());
+            assertTrue(result.getNodes() <= expected.getNodes());
+        }
+        assertEquals(new Game(), game);
+    }
+
+    @Test
+    public void testGivenTableWhenSearchCaptureChainThenWinningChain() {
+        final Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ").build();
+        final SearchResult result = new Search(game, new TranspositionTable(1)).search(5);
+        assertTrue(result.isWin());
+        assertEquals(Search.WIN - 1, result.getScore());
+    }
+
+    @Test
+    public void testGivenWinScoreWhenToTableAndFromTableThenDistanceKept() {
+        assertEquals(Search.WIN - 7, Search.fromTable(Search.toTable(Search.WIN - 5, 2), 4));
+        assertEquals(-Search.WIN + 7, Search.fromTable(Search.toTable(-Search.WIN + 5, 2), 4));
+        assertEquals(42, Search.fromTable(Search.toTable(42, 2), 4));
+    }
+
+    @Test
+    public void testGivenSearchWhenSearchThenMetricsRecorded() {
+        final long searches = Metrics.getSearchCount();
+        final long nodes = Metrics.getSearchNodes();
+        final SearchResult result = new Search(new Game()).search(3);
+        assertEquals(searches + 1, Metrics.getSearchCount());
+        assertEquals(nodes + result.getNodes(), Metrics.getSearchNodes());
+    }
+
+    @Test
+    public void testGivenTimeManagerWhenSearchThenMoveWithinHardDeadline() {
+        final Game game = this.getMiddleGame();
+        final TimeManager timeManager = new TimeManager(200);
+        final long start = System.nanoTime();
+        final SearchResult result = new Search(game).search(timeManager);
+        final long elapsed = System.nanoTime() - start;
+        assertTrue(result.hasMove());
+        assertTrue(result.getDepth() >= 1);
+        assertTrue(elapsed + " nanos", elapsed < timeManager.getHardNanos() + SearchTest.SLACK_NANOS);
+        assertEquals(this.getMiddleGame(), game);
+    }
+
+    @Test
+    public void testGivenTimeManagerBuiltEarlierWhenSearchTwiceThenClockStartsWithEachSearch()
+            throws InterruptedException {
+        final Search search = new Search(this.getMiddleGame());
+        final TimeManager timeManager = new TimeManager(200);
+        Thread.sleep(250);
+        assertTrue(search.search(timeManager).getDepth() > 1);
+        Thread.sleep(250);
+        assertTrue(search.search(timeManager).getDepth() > 1);
+    }
+
+    @Test
+    public void testGivenSingleMoveWhenSearchWithTimeManagerThenImmediate() {
+        final Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            "b       ").build();
+        final SearchResult result = new Search(game).search(new TimeManager(10000));
+        assertEquals(1, result.getDepth());
+        assertTrue(result.hasMove());
+    }
+
+    @Test
+    public void testGivenRunningSearchWhenCancelThenStopsWithCompletedIteration() throws InterruptedException {
+        final Game game = this.getMiddleGame();
+        final Search search = new Search(game);
+        final SearchResult[] results = new SearchResult[1];
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                results[0] = search.search(Search.MAX_DEPTH);
+            }
+        });
+        thread.start();
+        Thread.sleep(SearchTest.CANCEL_DELAY_MILLIS);
+        search.cancel();
+        thread.join(SearchTest.JOIN_MILLIS);
+        assertFalse(thread.isAlive());
+        assertTrue(results[0].hasMove());
+        assertTrue(results[0].getDepth() < Search.MAX_DEPTH);
+        assertEquals(this.getMiddleGame(), game);
+        assertFalse(game.canUnmake());
+    }
+
+    @Test
+    public void testGivenCancelBeforeSearchWhenSearchThenStopsAfterFirstIteration() {
+        final Search search = new Search(this.getMiddleGame());
+        search.cancel();
+        final SearchResult result = search.search(Search.MAX_DEPTH);
+        assertTrue(result.hasMove());
+        assertEquals(1, result.getDepth());
+        search.reset();
+        assertEquals(4, search.search(4).getDepth());
+    }
+
+    private static int minimax(Game game, int depth, int ply) {
+        final MoveList moves = new MoveList();
+        game.getMoves(moves);
+        if (moves.isEmpty())
+            return -Search.WIN + ply;
+        if (depth == 0)
+            return Evaluation.evaluate(game);
+        int bestScore = -Search.INFINITY;
+        for (int i = 0; i < moves.size(); i++) {
+            game.make(moves.get(i));
+            bestScore = Math.max(bestScore, -SearchTest.minimax(game, depth - 1, ply + 1));
+            game.unmake();
+        }
+        return bestScore;
+    }
+
+}
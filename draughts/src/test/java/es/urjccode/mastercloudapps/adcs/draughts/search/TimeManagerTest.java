@@ -0,0 +1,61 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TimeManagerTest {
+
+    private static final long NANOS_PER_MILLI = 1000000;
+
+    @Test
+    public void testGivenMoveMillisWhenGetDeadlinesThenSoftIsHalfHard() {
+        final TimeManager timeManager = new TimeManager(1000);
+        assertEquals(1000 * TimeManagerTest.NANOS_PER_MILLI, timeManager.getHardNanos());
+        assertEquals(500 * TimeManagerTest.NANOS_PER_MILLI, timeManager.getSoftNanos());
+    }
+
+    @Test
+    public void testGivenClockWhenGetDeadlinesThenSoftBelowHardBelowRemaining() {
+        final TimeManager timeManager = new TimeManager(60000, 0);
+        assertTrue(timeManager.getSoftNanos() > 0);
+        assertTrue(timeManager.getSoftNanos() < timeManager.getHardNanos());
+        assertTrue(timeManager.getHardNanos() < 60000 * TimeManagerTest.NANOS_PER_MILLI);
+    }
+
+    @Test
+    public void testGivenLaterMoveWhenGetDeadlinesThenLargerShareOfClock() {
+        assertTrue(new TimeManager(60000, 40).getSoftNanos() > new TimeManager(60000, 0).getSoftNanos());
+        assertEquals(new TimeManager(60000, 40).getSoftNanos(), new TimeManager(60000, 100).getSoftNanos());
+    }
+
+    @Test
+    public void testGivenEmptyClockWhenGetDeadlinesThenZero() {
+        final TimeManager timeManager = new TimeManager(0, 10);
+        assertEquals(0, timeManager.getSoftNanos());
+        assertEquals(0, timeManager.getHardNanos());
+        timeManager.start();
+        assertTrue(timeManager.isHardExpired());
+    }
+
+    @Test
+    public void testGivenElapsedSinceConstructionWhenStartThenFullBudget() throws InterruptedException {
+        final TimeManager timeManager = new TimeManager(50);
+        Thread.sleep(100);
+        timeManager.start();
+        assertFalse(timeManager.isHardExpired());
+        assertTrue(timeManager.getElapsed() < timeManager.getHardNanos());
+    }
+
+    @Test
+    public void testGivenStableBestMoveWhenIsSoftExpiredThenEarlierStop() {
+        final TimeManager timeManager = new TimeManager(1000);
+        final long elapsed = timeManager.getSoftNanos() * 3 / 4;
+        assertFalse(timeManager.isSoftExpired(elapsed, 0));
+        assertTrue(timeManager.isSoftExpired(elapsed, 3));
+        assertTrue(timeManager.isSoftExpired(timeManager.getSoftNanos(), 0));
+    }
+
+}
@@ -0,0 +1,106 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class TranspositionTableTest {
+
+    private static final long KEY = 0x9e3779b97f4a7c15L;
+    private static final int THREADS = 4;
+    private static final int OPERATIONS = 200000;
+    private static final int KEYS = 64;
+
+    @Test
+    public void testGivenMegabytesWhenGetCapacityThenPowerOfTwoEntries() {
+        assertEquals(65536, new TranspositionTable(1).getCapacity());
+        assertEquals(131072, new TranspositionTable(3).getCapacity());
+    }
+
+    @Test
+    public void testGivenStoredEntryWhenProbeThenFieldsRoundTrip() {
+        final TranspositionTable table = new TranspositionTable(1);
+        table.store(TranspositionTableTest.KEY, 12, TranspositionTable.LOWER, -Search.WIN + 7, 42);
+        final long data = table.probe(TranspositionTableTest.KEY);
+        assertEquals(12, TranspositionTable.getDepth(data));
+        assertEquals(TranspositionTable.LOWER, TranspositionTable.getBound(data));
+        assertEquals(-Search.WIN + 7, TranspositionTable.getScore(data));
+        assertEquals(42, TranspositionTable.getMoveIndex(data));
+    }
+
+    @Test
+    public void testGivenOtherKeyInSlotWhenProbeThenMiss() {
+        final TranspositionTable table = new TranspositionTable(1);
+        assertEquals(TranspositionTable.NONE, table.probe(TranspositionTableTest.KEY));
+        table.store(TranspositionTableTest.KEY, 3, TranspositionTable.EXACT, 10, 0);
+        assertEquals(TranspositionTable.NONE, table.probe(TranspositionTableTest.KEY ^ 1L << 40));
+    }
+
+    @Test
+    public void testGivenEntryWithMoveWhenStoreWithoutMoveThenMoveKept() {
+        final TranspositionTable table = new TranspositionTable(1);
+        table.store(TranspositionTableTest.KEY, 3, TranspositionTable.EXACT, 10, 5);
+        table.store(TranspositionTableTest.KEY, 4, TranspositionTable.UPPER, 8, TranspositionTable.NO_MOVE);
+        final long data = table.probe(TranspositionTableTest.KEY);
+        assertEquals(4, TranspositionTable.getDepth(data));
+        assertEquals(5, TranspositionTable.getMoveIndex(data));
+    }
+
+    @Test
+    public void testGivenDeeperEntryWhenStoreShallowerCollisionThenKeptUntilNewSearch() {
+        final TranspositionTable table = new TranspositionTable(1);
+        final long collision = TranspositionTableTest.KEY ^ 1L << 40;
+        table.store(TranspositionTableTest.KEY, 8, TranspositionTable.EXACT, 10, 0);
+        table.store(collision, 2, TranspositionTable.EXACT, 20, 0);
+        assertEquals(8, TranspositionTable.getDepth(table.probe(TranspositionTableTest.KEY)));
+        table.newSearch();
+        table.store(collision, 2, TranspositionTable.EXACT, 20, 0);
+        assertEquals(TranspositionTable.NONE, table.probe(TranspositionTableTest.KEY));
+        assertEquals(20, TranspositionTable.getScore(table.probe(collision)));
+    }
+
+    @Test
+    public void testGivenEntriesWhenClearThenEmpty() {
+        final TranspositionTable table = new TranspositionTable(1);
+        for (long key = 0; key < 1000; key++)
+            table.store(key * 0x9e3779b97f4a7c15L + 1, 1, TranspositionTable.EXACT, 0, 0);
+        assertTrue(table.getHashfull() > 0);
+        table.clear();
+        assertEquals(0, table.getHashfull());
+        assertEquals(TranspositionTable.NONE, table.probe(1));
+    }
+
+    @Test
+    public void testGivenConcurrentWritersWhenProbeThenNoTornEntries() throws InterruptedException {
+        final TranspositionTable table = new TranspositionTable(1);
+        final long[] keys = new long[TranspositionTableTest.KEYS];
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = TranspositionTableTest.KEY * (i + 1) & ~0xFFFFL;
+        final AtomicInteger corrupted = new AtomicInteger();
+        final Thread[] threads = new Thread[TranspositionTableTest.THREADS];
+        for (int i = 0; i < threads.length; i++) {
+            final Random random = new Random(i);
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < TranspositionTableTest.OPERATIONS; j++) {
+                        final int index = random.nextInt(keys.length);
+                        final long data = table.probe(keys[index]);
+                        if (data != TranspositionTable.NONE && TranspositionTable.getScore(data) != index)
+                            corrupted.incrementAndGet();
+                        table.store(keys[index], random.nextInt(64), TranspositionTable.EXACT, index, index);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        assertEquals(0, corrupted.get());
+    }
+
+}
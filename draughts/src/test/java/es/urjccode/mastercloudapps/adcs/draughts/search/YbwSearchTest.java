@@ -0,0 +1,141 @@
+package es.urjccode.mastercloudapps.adcs.draughts.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.metrics.Metrics;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Color;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.GameBuilder;
+import es.urjccode.mastercloudapps.adcs.draughts.models.MoveList;
+
+public class YbwSearchTest {
+
+    private static final int PARALLELISM = 4;
+    private static final long SLACK_NANOS = 200000000;
+    private static final long CANCEL_DELAY_MILLIS = 100;
+    private static final long JOIN_MILLIS = 5000;
+
+    private Game getMiddleGame() {
+        return new GameBuilder().color(Color.WHITE).rows(
+            " n   n n",
+            "n   n   ",
+            " n n   n",
+            "  b   n ",
+            " b   b  ",
+            "b   B   ",
+            " b b   b",
+            "b     b ").build();
+    }
+
+    @Test
+    public void testGivenGamesWhenSearchThenSameMoveAndScoreAsSearch() {
+        final Game[] games = { new Game(), this.getMiddleGame() };
+        for (Game game : games)
+            for (int depth = 1; depth <= 7; depth++) {
+                final SearchResult result = new YbwSearch(game, YbwSearchTest.PARALLELISM).search(depth);
+                final SearchResult expected = new Search(game).search(depth);
+                assertEquals(expected.getScore(), result.getScore());
+                assertEquals(expected.getMove(), result.getMove());
+                assertEquals(depth, result.getDepth());
+            }
+    }
+
+    @Test
+    public void testGivenTableWhenSearchThenLegalMoveAndGameUnchanged() {
+        final Game game = this.getMiddleGame();
+        final SearchResult result = new YbwSearch(game, YbwSearchTest.PARALLELISM, new TranspositionTable(4))
+            .search(8);
+        final MoveList moves = new MoveList();
+        game.getMoves(moves);
+        assertTrue(moves.contains(result.getMove()));
+        assertTrue(result.getNodes() > 0);
+        assertEquals(this.getMiddleGame(), game);
+        assertFalse(game.canUnmake());
+    }
+
+    @Test
+    public void testGivenCaptureChainWhenSearchThenWinningChain() {
+        final Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "   n    ",
+            "        ",
+            " n      ",
+            "b       ",
+            "        ",
+            "        ").build();
+        final SearchResult result = new YbwSearch(game, YbwSearchTest.PARALLELISM).search(6);
+        assertTrue(result.isWin());
+        assertEquals(Search.WIN - 1, result.getScore());
+    }
+
+    @Test
+    public void testGivenBlockedGameWhenSearchThenLossWithoutMove() {
+        final Game game = new GameBuilder().color(Color.WHITE).rows(
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "        ",
+            "n n n   ",
+            " n n    ",
+            "b b     ").build();
+        final SearchResult result = new YbwSearch(game, YbwSearchTest.PARALLELISM).search(6);
+        assertFalse(result.hasMove());
+        assertTrue(result.isLoss());
+    }
+
+    @Test
+    public void testGivenTimeManagerWhenSearchThenWithinHardDeadline() {
+        final TimeManager timeManager = new TimeManager(200);
+        final long start = System.nanoTime();
+        final SearchResult result = new YbwSearch(this.getMiddleGame(), YbwSearchTest.PARALLELISM,
+            new TranspositionTable(4)).search(timeManager);
+        final long elapsed = System.nanoTime() - start;
+        assertTrue(result.hasMove());
+        assertTrue(elapsed + " nanos", elapsed < timeManager.getHardNanos() + YbwSearchTest.SLACK_NANOS);
+    }
+
+    @Test
+    public void testGivenRunningSearchWhenCancelThenStopsWithCompletedIteration() throws InterruptedException {
+        final YbwSearch ybwSearch = new YbwSearch(this.getMiddleGame(), YbwSearchTest.PARALLELISM);
+        final SearchResult[] results = new SearchResult[1];
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                results[0] = ybwSearch.search(Search.MAX_DEPTH);
+            }
+        });
+        thread.start();
+        Thread.sleep(YbwSearchTest.CANCEL_DELAY_MILLIS);
+        ybwSearch.cancel();
+        thread.join(YbwSearchTest.JOIN_MILLIS);
+        assertFalse(thread.isAlive());
+        assertTrue(results[0].hasMove());
+        assertTrue(results[0].getDepth() < Search.MAX_DEPTH);
+    }
+
+    @Test
+    public void testGivenCancelBeforeSearchWhenSearchThenStopsAfterFirstIteration() {
+        final YbwSearch ybwSearch = new YbwSearch(this.getMiddleGame(), YbwSearchTest.PARALLELISM);
+        ybwSearch.cancel();
+        final SearchResult result = ybwSearch.search(Search.MAX_DEPTH);
+        assertTrue(result.hasMove());
+        assertEquals(1, result.getDepth());
+        ybwSearch.reset();
+        assertEquals(4, ybwSearch.search(4).getDepth());
+    }
+
+    @Test
+    public void testGivenSearchWhenSearchThenOneSearchRecorded() {
+        final long searches = Metrics.getSearchCount();
+        final SearchResult result = new YbwSearch(new Game(), YbwSearchTest.PARALLELISM).search(6);
+        assertEquals(searches + 1, Metrics.getSearchCount());
+        assertTrue(result.getNodes() > 0);
+    }
+
+}
@@ -0,0 +1,38 @@
+package es.urjccode.mastercloudapps.adcs.draughts.utils;
+
+import java.lang.management.ManagementFactory;
+
+public class AllocationMeter {
+
+    private static final int WARMUP_ITERATIONS = 20000;
+    private static final int ITERATIONS = 100000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    public AllocationMeter() {
+        this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    public boolean isSupported() {
+        return this.threadMXBean.isThreadAllocatedMemorySupported()
+            && this.threadMXBean.isThreadAllocatedMemoryEnabled();
+    }
+
+    public long getBytesPerOperation(Runnable operation) {
+        assert this.isSupported();
+        for (int i = 0; i < AllocationMeter.WARMUP_ITERATIONS; i++)
+            operation.run();
+        final long id = Thread.currentThread().getId();
+        final long overhead = this.getAllocatedBytes(id) - this.getAllocatedBytes(id);
+        final long before = this.getAllocatedBytes(id);
+        for (int i = 0; i < AllocationMeter.ITERATIONS; i++)
+            operation.run();
+        final long after = this.getAllocatedBytes(id);
+        return Math.max(0, after - before + overhead) / AllocationMeter.ITERATIONS;
+    }
+
+    private long getAllocatedBytes(long id) {
+        return this.threadMXBean.getThreadAllocatedBytes(id);
+    }
+
+}
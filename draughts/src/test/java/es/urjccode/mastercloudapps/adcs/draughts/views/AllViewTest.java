@@ -7,6 +7,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({ 
     GameViewTest.class, 
     PlayViewTest.class, 
-    ResumeViewTest.class } )
+    ResumeViewTest.class,
+    AllocationGameViewTest.class } )
 public final class AllViewTest {
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package es.urjccode.mastercloudapps.adcs.draughts.views;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import es.urjccode.mastercloudapps.adcs.draughts.controllers.StartController;
+import es.urjccode.mastercloudapps.adcs.draughts.models.Game;
+import es.urjccode.mastercloudapps.adcs.draughts.models.State;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.AllocationMeter;
+import es.urjccode.mastercloudapps.adcs.draughts.utils.Console;
+
+public class AllocationGameViewTest {
+
+    private static final long WRITE_BUDGET = 0;
+
+    private AllocationMeter allocationMeter;
+
+    @Before
+    public void before() {
+        this.allocationMeter = new AllocationMeter();
+        assumeTrue(this.allocationMeter.isSupported());
+    }
+
+    @Test
+    public void testGivenGameViewWhenWriteThenWithinBudget() {
+        final GameView gameView = new GameView();
+        gameView.console = new Console() {
+            @Override
+            public void write(String string) {
+            }
+
+            @Override
+            public void writeln(String string) {
+            }
+
+            @Override
+            public void writeln() {
+            }
+        };
+        final StartController startController = new StartController(new Game(), new State());
+        final long bytes = this.allocationMeter.getBytesPerOperation(new Runnable() {
+            @Override
+            public void run() {
+                gameView.write(startController);
+            }
+        });
+        assertTrue(bytes + " bytes per operation over a budget of " + AllocationGameViewTest.WRITE_BUDGET,
+            bytes <= AllocationGameViewTest.WRITE_BUDGET);
+    }
+
+}